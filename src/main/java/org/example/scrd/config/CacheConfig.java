@@ -0,0 +1,53 @@
+package org.example.scrd.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 2단 캐시(Caffeine L1 + Redis L2) 설정.
+ * 트랜잭션 안에서 evict/put 하면 커밋 후에 반영된다 (롤백된 변경으로 캐시를 지우거나 채우지 않도록).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String THEME_DETAIL = "themeDetail";
+    public static final String THEME_WEB_DETAIL = "themeWebDetail";
+    public static final String LOCATION_COUNTS = "locationCounts";
+    public static final String TAGS = "tags";
+
+    private static final String EVICTION_CHANNEL = "cache:evict";
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                             StringRedisTemplate stringRedisTemplate) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(connectionFactory, stringRedisTemplate,
+                EVICTION_CHANNEL, Map.of(
+                        THEME_DETAIL, Duration.ofMinutes(30),
+                        THEME_WEB_DETAIL, Duration.ofMinutes(30),
+                        LOCATION_COUNTS, Duration.ofMinutes(30),
+                        TAGS, Duration.ofHours(6) // 태그는 운영자가 DB 에 직접 넣는 경우뿐
+                ));
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheEvictionListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                        TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.onEvictionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(EVICTION_CHANNEL));
+        return container;
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.scrd.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예전 스키마에서 MySQL enum 으로 만들어진 상태/종류 컬럼을 varchar 로 바꾼다.
+ * ddl-auto(update) 는 있는 컬럼 타입을 바꾸지 않아서, enum 컬럼에 새 값(WAITING, WAITLIST_PROMOTED)을 넣으면
+ * "Data truncated" 로 insert 가 실패한다. 이미 varchar 면 건드리지 않는다.
+ */
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto 로 테이블이 만들어진 뒤
+@RequiredArgsConstructor
+@Slf4j
+public class EnumColumnSeeder {
+    // varchar 길이는 엔티티의 @Column length 와 맞춤
+    private static final List<EnumColumn> COLUMNS = List.of(
+            new EnumColumn("party_join", "status", 20),
+            new EnumColumn("notification", "type", 50)
+    );
+
+    private record EnumColumn(String table, String name, int length) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 요청을 받기 전에 끝나야 해서 ApplicationReadyEvent 가 아니라 빈 초기화 때 실행
+    @PostConstruct
+    public void migrate() {
+        for (EnumColumn column : COLUMNS) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT DATA_TYPE, IS_NULLABLE FROM information_schema.COLUMNS " +
+                            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND COLUMN_NAME = ?",
+                    column.table(), column.name());
+            if (rows.isEmpty() || !"enum".equalsIgnoreCase((String) rows.get(0).get("DATA_TYPE"))) {
+                continue;
+            }
+            // 테이블/컬럼 이름은 위 상수라서 그대로 이어 붙여도 된다
+            String nullability = "NO".equals(rows.get(0).get("IS_NULLABLE")) ? " NOT NULL" : " NULL";
+            jdbcTemplate.execute("ALTER TABLE " + column.table() + " MODIFY COLUMN " + column.name()
+                    + " VARCHAR(" + column.length() + ")" + nullability);
+            log.info("enum 컬럼을 varchar 로 변경: {}.{}", column.table(), column.name());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.example.scrd.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hibernate 2차 캐시 리전별 통계 (/actuator/hibernatecache).
+ * 노출하려면 management.endpoints.web.exposure.include 에 hibernatecache 추가.
+ */
+@Component
+@Endpoint(id = "hibernatecache")
+public class HibernateCacheEndpoint {
+    private final Statistics statistics;
+
+    public HibernateCacheEndpoint(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> regions() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String region : HibernateConfig.REGIONS) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            if (stats == null) {
+                continue;
+            }
+            long hits = stats.getHitCount();
+            long misses = stats.getMissCount();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("hitCount", hits);
+            values.put("missCount", misses);
+            values.put("putCount", stats.getPutCount());
+            values.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+            values.put("elementCountInMemory", stats.getElementCountInMemory());
+            result.put(region, values);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.scrd.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.scrd.domain.IdGenerator;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 설정 (JCache + Caffeine).
+ * 읽기가 압도적으로 많은 Theme, Tag 만 엔티티 캐시에 올린다 (READ_WRITE).
+ * findById / em.find / 연관관계 로딩은 캐시를 타고, JPQL 조회는 타지 않는다 (쿼리 캐시는 안 씀).
+ *
+ * 캐시는 서버마다 따로라서 다른 서버의 수정은 TTL 이 지나야 보인다. 그래서 TTL 을 짧게 둔다.
+ * 리전 통계는 /actuator/hibernatecache (HibernateCacheEndpoint)
+ *
+ * insert/update 배치도 여기서 켠다. IDENTITY 엔티티는 배치가 안 되니 많이 쌓이는 엔티티는 IdGenerator 사용.
+ * MySQL 드라이버는 rewriteBatchedStatements 가 없으면 배치를 받아도 한 줄씩 보내니까 커넥션 풀에 같이 넣는다.
+ */
+@Configuration
+public class HibernateConfig {
+    public static final String THEME_REGION = "theme";
+    public static final String TAG_REGION = "tag";
+
+    public static final List<String> REGIONS = List.of(THEME_REGION, TAG_REGION);
+
+    public static final String REWRITE_BATCHED_STATEMENTS = "rewriteBatchedStatements";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, THEME_REGION, 10_000, Duration.ofMinutes(5));
+        createRegion(cacheManager, TAG_REGION, 1_000, Duration.ofHours(1));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail"); // 리전 이름 오타는 기동 시에 잡는다
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, IdGenerator.ALLOCATION_SIZE);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    // 외부 설정(datasource url)에 빠져 있어도 배치가 multi-row INSERT 로 나가도록 코드에서 넣는다.
+    // 풀은 첫 getConnection 때 만들어지니까 빈 초기화 전에 넣으면 모든 커넥션에 적용된다.
+    @Bean
+    public static BeanPostProcessor rewriteBatchedStatementsPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.addDataSourceProperty(REWRITE_BATCHED_STATEMENTS, "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maximumSize, Duration ttl) {
+        if (cacheManager.getCache(name) != null) {
+            return; // 테스트에서 컨텍스트를 여러 번 띄울 때 같은 CachingProvider 를 공유한다
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
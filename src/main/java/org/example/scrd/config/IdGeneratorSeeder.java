@@ -0,0 +1,46 @@
+package org.example.scrd.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.domain.IdGenerator;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * id_generator 테이블 준비 + 시작값 맞추기.
+ * IDENTITY 로 쌓인 기존 데이터 위에서 테이블 생성기를 쓰기 시작하면 1부터 나눠줘서 PK 가 겹친다.
+ * 그래서 생성기 값이 테이블의 MAX(id) 보다 작을 때만 그 위로 올려둔다 (이미 앞서 있으면 건드리지 않음).
+ *
+ * pooled 옵티마이저는 읽은 값 v 를 블록의 끝으로 보고 (v - ALLOCATION_SIZE, v] 를 쓰기 때문에
+ * MAX(id) + 1 + ALLOCATION_SIZE 로 넣어야 첫 블록이 기존 id 와 겹치지 않는다.
+ */
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto 로 테이블이 만들어진 뒤
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorSeeder {
+    private final JdbcTemplate jdbcTemplate;
+
+    // 요청을 받기 전에 끝나야 해서 ApplicationReadyEvent 가 아니라 빈 초기화 때 실행
+    @PostConstruct
+    public void seed() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdGenerator.TABLE + " ("
+                + IdGenerator.PK_COLUMN + " VARCHAR(255) NOT NULL, "
+                + IdGenerator.VALUE_COLUMN + " BIGINT, "
+                + "PRIMARY KEY (" + IdGenerator.PK_COLUMN + "))");
+
+        for (String table : IdGenerator.TABLES) {
+            // 테이블 이름은 IdGenerator 상수라서 그대로 이어 붙여도 된다
+            jdbcTemplate.update("INSERT INTO " + IdGenerator.TABLE
+                            + " (" + IdGenerator.PK_COLUMN + ", " + IdGenerator.VALUE_COLUMN + ")"
+                            + " SELECT seed.g, seed.v FROM (SELECT ? AS g, COALESCE(MAX(id), 0) AS max_id, COALESCE(MAX(id), 0) + 1 + ? AS v FROM " + table + ") seed"
+                            + " ON DUPLICATE KEY UPDATE " + IdGenerator.VALUE_COLUMN + " = IF("
+                            + IdGenerator.VALUE_COLUMN + " IS NULL OR " + IdGenerator.VALUE_COLUMN + " <= seed.max_id, seed.v, "
+                            + IdGenerator.VALUE_COLUMN + ")",
+                    table, IdGenerator.ALLOCATION_SIZE);
+        }
+        log.info("id 생성기 시작값 확인 완료: {}", IdGenerator.TABLES);
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.scrd.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.scrd.dto.MobileThemeDto;
+import org.example.scrd.util.SparseFieldsets;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@Configuration
+public class JacksonConfig {
+
+    // 부분 응답(fields=) 대상 DTO 에 필터를 걸어두고, 기본값은 전체 필드 출력
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder -> builder
+                .mixIn(MobileThemeDto.class, SparseFieldsMixin.class)
+                .filters(new SimpleFilterProvider()
+                        .addFilter(SparseFieldsets.FILTER_ID, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Accept: application/cbor 요청에 같은 DTO 를 CBOR 로 내려준다.
+    // 스프링 기본 CBOR 컨버터는 부트 설정(믹스인/필터 등)을 안 타서 부트 빌더로 직접 만든다.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @JsonFilter(SparseFieldsets.FILTER_ID)
+    private interface SparseFieldsMixin {
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.scrd.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.example.scrd.filter.ExceptionHandlerFilter;
 import org.example.scrd.filter.JwtTokenFilter;
@@ -53,6 +54,7 @@ public class SecurityConfig {
                         session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(request -> request
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()  // ✅ 이 줄 추가!
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // 스트리밍/SSE 응답 완료 시 재디스패치 (원 요청에서 이미 인증됨)
                         .requestMatchers("/scrd/auth/**", "/error" ,"/").permitAll()
                         .requestMatchers("/scrd/every/**").permitAll()
                         .requestMatchers("/scrd/api/**").authenticated() // 인증된 사용자만
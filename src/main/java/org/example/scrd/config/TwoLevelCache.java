@@ -0,0 +1,165 @@
+package org.example.scrd.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * L1(서버별 Caffeine) + L2(공유 Redis) 캐시.
+ * 조회는 L1 → L2 → 로더 순서, L2 에서 찾은 값은 L1 에 올린다.
+ * 값이 바뀌면 (put/evict/clear) Redis pub/sub 으로 다른 서버에 알려서 각자의 L1 을 비우게 한다.
+ * pub/sub 메시지는 유실될 수 있어서 L1 은 L2 보다 짧게만 들고 있는다 (TwoLevelCacheManager 참고).
+ *
+ * Redis 장애 시에는 L1 + 로더로만 동작한다. 캐시 때문에 요청이 실패하면 안 된다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+    private final String name;
+    private final Cache<String, Object> local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+    private final Consumer<String> evictionPublisher; // 키, 전체 삭제면 null
+
+    public TwoLevelCache(String name,
+                         Cache<String, Object> local,
+                         RedisTemplate<String, Object> redisTemplate,
+                         Duration ttl,
+                         Consumer<String> evictionPublisher) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.evictionPublisher = evictionPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.getIfPresent(cacheKey);
+        if (value != null) {
+            return value;
+        }
+        value = remoteGet(cacheKey);
+        if (value != null) {
+            local.put(cacheKey, value);
+        }
+        return value;
+    }
+
+    // @Cacheable(sync = true) 용. 같은 서버 안에서는 키별로 로더를 한 번만 호출한다.
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String cacheKey = String.valueOf(key);
+        Object value = local.get(cacheKey, k -> {
+            Object remote = remoteGet(k);
+            if (remote != null) {
+                return remote;
+            }
+            T loaded;
+            try {
+                loaded = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (loaded == null) {
+                return null;
+            }
+            remotePut(k, loaded);
+            return loaded;
+        });
+        return (T) value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String cacheKey = String.valueOf(key);
+        remotePut(cacheKey, value);
+        local.put(cacheKey, value);
+        evictionPublisher.accept(cacheKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String cacheKey = String.valueOf(key);
+        try {
+            redisTemplate.delete(redisKey(cacheKey));
+        } catch (Exception e) {
+            log.warn("L2 캐시 삭제 실패 cache={} key={}", name, cacheKey, e);
+        }
+        local.invalidate(cacheKey);
+        evictionPublisher.accept(cacheKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                ScanOptions options = ScanOptions.scanOptions().match(redisKey("*")).count(100).build();
+                try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                    while (cursor.hasNext()) {
+                        connection.keyCommands().del(cursor.next());
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("L2 캐시 전체 삭제 실패 cache={}", name, e);
+        }
+        local.invalidateAll();
+        evictionPublisher.accept(null);
+    }
+
+    // 다른 서버에서 바뀐 값: 내 L1 만 비우고 다음 조회 때 L2 에서 다시 읽는다
+    void evictLocal(String cacheKey) {
+        if (cacheKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(cacheKey);
+        }
+    }
+
+    private Object remoteGet(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(cacheKey));
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 cache={} key={}", name, cacheKey, e);
+            return null;
+        }
+    }
+
+    private void remotePut(String cacheKey, Object value) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), value, ttl);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 cache={} key={}", name, cacheKey, e);
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return "cache:" + name + ":" + cacheKey;
+    }
+}
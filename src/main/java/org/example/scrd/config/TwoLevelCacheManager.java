@@ -0,0 +1,96 @@
+package org.example.scrd.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * TwoLevelCache 를 만들어 주는 CacheManager. 캐시 이름별 TTL 은 CacheConfig 에서 정한다.
+ * L2 값은 JDK 직렬화로 저장하니 캐시하는 DTO 는 Serializable 이어야 한다.
+ *
+ * 무효화 메시지 형식: "{서버 id}|{캐시 이름}|{키}" (전체 삭제면 키 자리에 *)
+ * 자기가 보낸 메시지는 무시한다 (L1 은 이미 갱신됨).
+ */
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+    private static final Duration MAX_LOCAL_TTL = Duration.ofMinutes(1);
+    private static final int LOCAL_MAX_SIZE = 10_000;
+    private static final String ALL_KEYS = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String evictionChannel;
+    private final Map<String, Duration> ttls;
+    private final Map<String, TwoLevelCache> caches = new HashMap<>();
+
+    public TwoLevelCacheManager(RedisConnectionFactory connectionFactory,
+                                StringRedisTemplate stringRedisTemplate,
+                                String evictionChannel,
+                                Map<String, Duration> ttls) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(new StringRedisSerializer());
+        this.redisTemplate.setValueSerializer(new JdkSerializationRedisSerializer(getClass().getClassLoader()));
+        this.redisTemplate.afterPropertiesSet();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.evictionChannel = evictionChannel;
+        this.ttls = ttls;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        caches.clear();
+        ttls.forEach((name, ttl) -> caches.put(name, createCache(name, ttl)));
+        return caches.values();
+    }
+
+    // 설정에 없는 이름은 만들지 않는다 (오타로 캐시가 조용히 생기는 걸 막기 위해)
+    @Override
+    protected Cache getMissingCache(String name) {
+        return null;
+    }
+
+    // CacheConfig 의 pub/sub 리스너에서 호출
+    public void onEvictionMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL_KEYS.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    private TwoLevelCache createCache(String name, Duration ttl) {
+        Duration localTtl = ttl.compareTo(MAX_LOCAL_TTL) < 0 ? ttl : MAX_LOCAL_TTL;
+        return new TwoLevelCache(
+                name,
+                Caffeine.newBuilder()
+                        .maximumSize(LOCAL_MAX_SIZE)
+                        .expireAfterWrite(localTtl)
+                        .build(),
+                redisTemplate,
+                ttl,
+                key -> publishEviction(name, key));
+    }
+
+    private void publishEviction(String name, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(evictionChannel,
+                    nodeId + "|" + name + "|" + (key != null ? key : ALL_KEYS));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 cache={} key={}", name, key, e);
+        }
+    }
+}
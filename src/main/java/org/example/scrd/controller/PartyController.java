@@ -9,10 +9,12 @@ import org.example.scrd.dto.PartyPostDto;
 import org.example.scrd.dto.request.PartyJoinRequest;
 import org.example.scrd.dto.request.PartyPostRequest;
 import org.example.scrd.service.PartyService;
+import org.example.scrd.util.ConditionalRequestSupport;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDate;
@@ -25,6 +27,7 @@ import java.util.List;
 public class PartyController {
 
     private final PartyService partyService;
+    private final ConditionalRequestSupport conditionalRequestSupport;
 
     
     // 전체 일행 모집 글을 페이징 기반으로 조회
@@ -33,8 +36,12 @@ public class PartyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadline,
-            @RequestParam(required = false) Boolean isClosed) {
+            @RequestParam(required = false) Boolean isClosed,
+            WebRequest webRequest) {
 
+        if (conditionalRequestSupport.checkNotModified(webRequest, "parties", partyService.getPartyListETag())) {
+            return null; // 304
+        }
         List<PartyPostDto> posts = partyService.getPartyPostsPaged(page, size, deadline, isClosed);
         return ResponseEntity.ok(ApiResponse.success(posts));
     }
@@ -43,7 +50,11 @@ public class PartyController {
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PartyPostDetailDto>> getPartyPostDetail(
             @PathVariable Long postId,
-            @AuthenticationPrincipal User user){
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest){
+        if (conditionalRequestSupport.checkNotModified(webRequest, "party", partyService.getPartyPostDetailETag(postId, user))) {
+            return null; // 304
+        }
         PartyPostDetailDto dto = partyService.getPartyPostDetail(postId, user);
         return ResponseEntity.ok(ApiResponse.success(dto));
     }
@@ -8,6 +8,7 @@ import org.example.scrd.dto.MyReviewResponseDto;
 import org.example.scrd.dto.ReviewCreateRequestDto;
 import org.example.scrd.dto.ThemeReviewResponseDto;
 import org.example.scrd.dto.request.ReviewRequest;
+import org.example.scrd.dto.response.CursorPageResponse;
 import org.example.scrd.service.ReviewService;
 import org.example.scrd.service.ThemeService;
 import org.springframework.http.ResponseEntity;
@@ -48,6 +49,18 @@ public class ReviewController {
         return ResponseEntity.ok(myReviews);
     }
 
+    /**
+     * 내가 쓴 리뷰 보기 (커서 페이지, 최신순)
+     * ex: /scrd/api/review/my/paged?size=20&cursor={이전 응답의 nextCursor}
+     * */
+    @GetMapping("/review/my/paged")
+    public ResponseEntity<CursorPageResponse<MyReviewResponseDto>> getReviewPageByUser(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getReviewPageByUser(user, cursor, size));
+    }
+
     /**
      * 테마의  리뷰 보기
      * */
@@ -57,6 +70,39 @@ public class ReviewController {
         return ResponseEntity.ok(themeReviews);
     }
 
+    /**
+     * 테마의 리뷰 보기 (커서 페이지, 최신순)
+     * ex: /scrd/api/review/theme/12/paged?size=20&cursor={이전 응답의 nextCursor}
+     * */
+    @GetMapping("/review/theme/{themeId}/paged")
+    public ResponseEntity<CursorPageResponse<ThemeReviewResponseDto>> getReviewPageByTheme(
+            @PathVariable Long themeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.getReviewPageByTheme(themeId, cursor, size));
+    }
+
+    /**
+     * 리뷰 본문 검색 (관련도 순)
+     * ex: /scrd/api/review/search?keyword=반전&themeId=12&size=20
+     * */
+    @GetMapping("/review/search")
+    public ResponseEntity<List<ThemeReviewResponseDto>> searchReviews(
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long themeId,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reviewService.searchReviews(keyword, userId, themeId, size));
+    }
+
+    /**
+     * 리뷰 검색 인덱스 재구성(admin 용 API)
+     * */
+    @PostMapping("/review/search/reindex")
+    public ResponseEntity<ApiResponse<Integer>> reindexReviewSearch(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(ApiResponse.success(reviewService.reindexSearch(user)));
+    }
+
     @DeleteMapping("/review/{reviewId}")
     public ResponseEntity<ApiResponse<Object>> deleteReview(
             @PathVariable Long reviewId,
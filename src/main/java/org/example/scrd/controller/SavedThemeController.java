@@ -6,8 +6,10 @@ import org.example.scrd.dto.MobileThemeDto;
 import org.example.scrd.dto.response.SavedThemeListResponse;
 import org.example.scrd.dto.response.SavedThemeResponse;
 import org.example.scrd.service.SavedThemeService;
+import org.example.scrd.util.SparseFieldsets;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,18 +21,21 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SavedThemeController {
     private final SavedThemeService savedThemeService;
+    private final SparseFieldsets sparseFieldsets;
 
     /**
      * 저장한 테마를 볼 수 있는 API
+     * fields=title,image,availableTimes 처럼 필요한 필드만 요청할 수 있음
      * */
     @GetMapping
-    public ResponseEntity<List<MobileThemeDto>> getSavedThemesWithTimes(
+    public ResponseEntity<MappingJacksonValue> getSavedThemesWithTimes(
             @AuthenticationPrincipal User user,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) List<String> fields
     ) {
         LocalDate targetDate = (date != null) ? date : LocalDate.now();
         List<MobileThemeDto> savedThemes = savedThemeService.getSavedThemesWithAvailableTimes(user.getId(), targetDate);
-        return ResponseEntity.ok(savedThemes);
+        return ResponseEntity.ok(sparseFieldsets.apply(savedThemes, fields));
     }
 
     /**
@@ -0,0 +1,37 @@
+package org.example.scrd.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scrd.dto.TagDto;
+import org.example.scrd.dto.ThemeDto;
+import org.example.scrd.service.TagService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/scrd/api/tag")
+@RequiredArgsConstructor
+public class TagController {
+    private final TagService tagService;
+
+    /**
+     * 리뷰 작성 시 고를 수 있는 태그 목록
+     * */
+    @GetMapping
+    public ResponseEntity<List<TagDto>> getTags() {
+        return ResponseEntity.ok(tagService.getAllTags());
+    }
+
+    /**
+     * 해당 태그가 많이 붙은 테마 목록
+     * ex: /scrd/api/tag/3/themes?page=0&size=20
+     * */
+    @GetMapping("/{tagId}/themes")
+    public ResponseEntity<List<ThemeDto>> getThemesByTag(
+            @PathVariable Long tagId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(tagService.getThemesByTag(tagId, page, size));
+    }
+}
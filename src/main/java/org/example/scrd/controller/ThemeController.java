@@ -1,21 +1,35 @@
 package org.example.scrd.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.scrd.dto.LocationCountDto;
 import org.example.scrd.dto.MobileThemeDto;
 import org.example.scrd.dto.ThemeDto;
 import org.example.scrd.dto.request.ThemeRequest;
 import org.example.scrd.dto.response.ThemeAvailableTimeResponse;
+import org.example.scrd.dto.response.ThemeFacetResponse;
 import org.example.scrd.service.ThemeService;
+import org.example.scrd.service.TrendingThemeService;
+import org.example.scrd.util.ConditionalRequestSupport;
+import org.example.scrd.util.ResponseBodyCache;
+import org.example.scrd.util.SparseFieldsets;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.extern.slf4j.Slf4j;
 
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/scrd/api")
@@ -23,6 +37,16 @@ import java.util.Map;
 @Slf4j
 public class ThemeController {
     private final ThemeService themeService;
+    private final TrendingThemeService trendingThemeService;
+    private final ConditionalRequestSupport conditionalRequestSupport;
+    private final SparseFieldsets sparseFieldsets;
+    private final ResponseBodyCache responseBodyCache;
+
+    // 필터 첫 페이지에는 Mongo 예약 가능 시간이 섞여 있어서 카탈로그 버전과 별개로 짧게만 캐시
+    private static final Duration FILTER_FIRST_PAGE_TTL = Duration.ofSeconds(30);
+    // 평점순 상위 N개: 최대 100개, 바이트 캐시는 앱이 쓰는 크기(또는 전체)만 키로 만든다
+    private static final int MAX_RATING_SIZE = 100;
+    private static final Set<Integer> CACHED_RATING_SIZES = Set.of(10, 20, 30, 50, 100);
 
     /**
      * 테마 등록(admin 용 API)
@@ -41,10 +65,12 @@ public class ThemeController {
         return ResponseEntity.ok().build();
     }
 
-
     @GetMapping("/theme/{themeId}")
-    public ResponseEntity<ThemeDto> getTheme(@PathVariable Long themeId) {
-        ThemeDto theme = ThemeDto.toDto(themeService.getThemeById(themeId));
+    public ResponseEntity<ThemeDto> getTheme(@PathVariable Long themeId, WebRequest webRequest) {
+        if (conditionalRequestSupport.checkNotModified(webRequest, "theme", themeService.getThemeETag(themeId))) {
+            return null; // 304
+        }
+        ThemeDto theme = themeService.withLiveReviewCount(themeService.getThemeDetail(themeId));
         return ResponseEntity.ok(theme);
     }
 
@@ -53,8 +79,11 @@ public class ThemeController {
      * 특정 테마를 불러오는 API
      * */
     @GetMapping("web/theme/{themeId}")
-    public ResponseEntity<ThemeDto> getThemeDetail (@PathVariable Long themeId) {
-        ThemeDto theme = ThemeDto.toWebDto(themeService.getThemeById(themeId));
+    public ResponseEntity<ThemeDto> getThemeDetail (@PathVariable Long themeId, WebRequest webRequest) {
+        if (conditionalRequestSupport.checkNotModified(webRequest, "web-theme", themeService.getThemeETag(themeId))) {
+            return null; // 304
+        }
+        ThemeDto theme = themeService.withLiveReviewCount(themeService.getThemeWebDetail(themeId));
         return ResponseEntity.ok(theme);
     }
 
@@ -74,10 +103,25 @@ public class ThemeController {
 
     // Default  .. 추천 + 평점 많은 순으로 테마 불러오기
     @GetMapping("/theme")
-    public ResponseEntity<List<ThemeDto>> getThemes(@RequestParam(required = false) String sort) {
+    public ResponseEntity<List<ThemeDto>> getThemes(
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) Integer size, // sort=rating 일 때 상위 N개만
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (conditionalRequestSupport.checkNotModified(webRequest, "themes", themeService.getThemeCatalogETag())) {
+            return null; // 304
+        }
         List<ThemeDto> themes;
         if ("rating".equalsIgnoreCase(sort)) {
-            themes = themeService.getThemesSortedByRating();
+            Integer limit = size != null ? Math.min(Math.max(size, 1), MAX_RATING_SIZE) : null;
+            if ((limit == null || CACHED_RATING_SIZES.contains(limit))
+                    && responseBodyCache.serve(request, response, "themes-rating", "themes:rating:" + limit, null,
+                    () -> themeService.getThemesSortedByRating(limit))) {
+                return null; // 캐시된 바이트로 응답함
+            }
+            themes = themeService.getThemesSortedByRating(limit);
         } else {
             themes = themeService.getAllThemes();
         }
@@ -85,14 +129,36 @@ public class ThemeController {
         return ResponseEntity.ok(themes);
     }
 
+    /**
+     * 전체 테마 스트리밍 (NDJSON, 한 줄에 테마 하나)
+     * ex: /scrd/api/theme?format=ndjson
+     * */
+    @GetMapping(value = "/theme", params = "format=ndjson")
+    public ResponseEntity<StreamingResponseBody> streamThemes() {
+        StreamingResponseBody body = themeService::streamAllThemes;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+
+    /**
+     * 이번 주 인기 테마 (리뷰/저장/일행 모집 활동을 시간 감쇠해서 집계)
+     * */
+    @GetMapping("/theme/trending")
+    public ResponseEntity<List<ThemeDto>> getTrendingThemes(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(trendingThemeService.getTrendingThemes(size));
+    }
+
 
     /**
      * 필터 조건 기반 테마 조회 API
      * ex: /scrd/api/theme/filter?horror=1&activity=1&minLevel=1.0&maxLevel=3.0&minRating=3.5&location=강남
+     * fields=title,image,availableTimes 처럼 필요한 필드만 요청할 수 있음
      */
 
     @GetMapping("/theme/filter")
-    public ResponseEntity<List<MobileThemeDto>> getThemesWithFiltersAndSorting(
+    public ResponseEntity<MappingJacksonValue> getThemesWithFiltersAndSorting(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Integer horror,
             @RequestParam(required = false) Integer activity,
@@ -102,17 +168,61 @@ public class ThemeController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "combined") String sort
-    ) {
+            @RequestParam(defaultValue = "combined") String sort,
+            @RequestParam(required = false) List<String> fields,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        // 파라미터 없이 들어오는 첫 화면 요청은 모든 유저가 같은 결과라 바이트 캐시
+        boolean defaultFirstPage = keyword == null && horror == null && activity == null
+                && levelMin == null && levelMax == null && location == null && date == null
+                && page == 0 && size == 20 && "combined".equals(sort) && fields == null;
+        if (defaultFirstPage && responseBodyCache.serve(request, response, "theme-filter",
+                "theme-filter:default:" + LocalDate.now(), FILTER_FIRST_PAGE_TTL,
+                () -> themeService.getThemesByFilterCriteria(null, null, null, null, null, null, null, 0, 20, "combined"))) {
+            return null; // 캐시된 바이트로 응답함
+        }
         List<MobileThemeDto> results = themeService.getThemesByFilterCriteria(
                 keyword, horror, activity, levelMin, levelMax, location, date, page, size, sort
         );
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok(sparseFieldsets.apply(results, fields));
+    }
+
+
+    /**
+     * 필터 시트용 패싯 카운트 API (지역/공포도/활동성/난이도 구간별 테마 수)
+     * ex: /scrd/api/theme/filter/facets?horror=1&location=강남
+     */
+    @GetMapping("/theme/filter/facets")
+    public ResponseEntity<ThemeFacetResponse> getThemeFacets(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) Integer horror,
+            @RequestParam(required = false) Integer activity,
+            @RequestParam(required = false) Float levelMin,
+            @RequestParam(required = false) Float levelMax,
+            @RequestParam(required = false) String location,
+            WebRequest webRequest
+    ) {
+        if (conditionalRequestSupport.checkNotModified(webRequest, "theme-facets", themeService.getThemeCatalogETag())) {
+            return null; // 304
+        }
+        return ResponseEntity.ok(themeService.getThemeFacets(keyword, horror, activity, levelMin, levelMax, location));
     }
 
 
     @GetMapping("theme/location-counts")
-    public ResponseEntity<Map<String, Object>> getLocationCounts() {
+    public ResponseEntity<Map<String, Object>> getLocationCounts(
+            WebRequest webRequest,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        if (conditionalRequestSupport.checkNotModified(webRequest, "location-counts", themeService.getThemeCatalogETag())) {
+            return null; // 304
+        }
+        if (responseBodyCache.serve(request, response, "location-counts", "location-counts", null,
+                themeService::getLocationCountsWithTotal)) {
+            return null; // 캐시된 바이트로 응답함
+        }
         return ResponseEntity.ok(themeService.getLocationCountsWithTotal());
     }
 
@@ -0,0 +1,117 @@
+package org.example.scrd.domain;
+
+import java.util.Arrays;
+
+/**
+ * 테마별 클리어 시간 분포 (1분 단위 고정 버킷, 180분 이상은 마지막 버킷 하나에).
+ *
+ * t-digest 같은 스케치는 값을 뺄 수가 없는데 리뷰는 삭제되니까 고정 버킷 카운트를 쓴다.
+ * 집계 주기 동안 모은 추가분/삭제분 분포를 저장된 분포에 버킷끼리 더하고(merge) 빼면(subtract) 된다.
+ * 분위수 오차는 버킷 폭(1분) 이내.
+ * 값 객체라서 변경하면 새 인스턴스를 돌려준다 (JPA 변경 감지가 필드 교체로 동작하도록).
+ */
+public final class ClearTimeHistogram {
+    public static final int BUCKET_SECONDS = 60;
+    public static final int BUCKETS = 180;
+
+    private static final ClearTimeHistogram EMPTY = new ClearTimeHistogram(new int[BUCKETS + 1]);
+
+    private final int[] counts; // 마지막 칸은 overflow
+
+    private ClearTimeHistogram(int[] counts) {
+        this.counts = counts;
+    }
+
+    public static ClearTimeHistogram empty() {
+        return EMPTY;
+    }
+
+    public ClearTimeHistogram add(int seconds) {
+        int index = Math.min(Math.max(seconds, 0) / BUCKET_SECONDS, BUCKETS);
+        int[] adjusted = counts.clone();
+        adjusted[index]++;
+        return new ClearTimeHistogram(adjusted);
+    }
+
+    public ClearTimeHistogram merge(ClearTimeHistogram other) {
+        int[] merged = counts.clone();
+        for (int i = 0; i < merged.length; i++) {
+            merged[i] += other.counts[i];
+        }
+        return new ClearTimeHistogram(merged);
+    }
+
+    // 버킷별로 빼되 0 밑으로는 내려가지 않는다 (통계 행보다 먼저 쓰인 리뷰가 지워지는 경우)
+    public ClearTimeHistogram subtract(ClearTimeHistogram other) {
+        int[] subtracted = counts.clone();
+        for (int i = 0; i < subtracted.length; i++) {
+            subtracted[i] = Math.max(subtracted[i] - other.counts[i], 0);
+        }
+        return new ClearTimeHistogram(subtracted);
+    }
+
+    public long total() {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * q 분위 클리어 시간(초). 버킷 안에서는 균등 분포로 보고 선형 보간한다.
+     * 비어 있으면 null, overflow 버킷에 걸리면 180분으로 자른다.
+     */
+    public Integer quantile(double q) {
+        long total = total();
+        if (total == 0) {
+            return null;
+        }
+        double target = q * total;
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] > 0 && cumulative + counts[i] >= target) {
+                double fraction = (target - cumulative) / counts[i];
+                return (int) Math.round((i + fraction) * BUCKET_SECONDS);
+            }
+            cumulative += counts[i];
+        }
+        return BUCKETS * BUCKET_SECONDS;
+    }
+
+    // DB 저장 형식: 버킷 카운트를 쉼표로 이어 붙이고 뒤쪽 0 은 생략
+    public String encode() {
+        int last = counts.length - 1;
+        while (last >= 0 && counts[last] == 0) {
+            last--;
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= last; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(counts[i]);
+        }
+        return sb.toString();
+    }
+
+    public static ClearTimeHistogram decode(String value) {
+        if (value == null || value.isEmpty()) {
+            return EMPTY;
+        }
+        int[] counts = new int[BUCKETS + 1];
+        String[] parts = value.split(",");
+        for (int i = 0; i < parts.length && i < counts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i]);
+        }
+        return new ClearTimeHistogram(counts);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ClearTimeHistogram other && Arrays.equals(counts, other.counts));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.scrd.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class ClearTimeHistogramConverter implements AttributeConverter<ClearTimeHistogram, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ClearTimeHistogram histogram) {
+        return histogram == null ? "" : histogram.encode();
+    }
+
+    @Override
+    public ClearTimeHistogram convertToEntityAttribute(String value) {
+        return ClearTimeHistogram.decode(value);
+    }
+}
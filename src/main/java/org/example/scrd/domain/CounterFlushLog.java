@@ -0,0 +1,31 @@
+package org.example.scrd.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반영을 마친 카운터 flush 배치 id (JdbcCounterWriter 가 JDBC 로 직접 쓴다).
+ * 카운터 UPDATE 와 같은 트랜잭션에서 insert 해서, 같은 배치를 두 번 반영하지 않게 한다. 하루 지난 행은 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "counter_flush_log")
+public class CounterFlushLog {
+    @Id
+    @Column(length = 64)
+    private String batchId;
+
+    @Column(nullable = false, length = 32)
+    private String counter;
+
+    @Column(nullable = false)
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,29 @@
+package org.example.scrd.domain;
+
+import java.util.List;
+
+/**
+ * 테이블 기반 pooled id 생성기 설정 (@TableGenerator 에서 사용).
+ * IDENTITY 는 insert 를 해야 id 를 알 수 있어서 Hibernate 가 insert 배치를 못 한다.
+ * 대신 id_generator 테이블에서 ALLOCATION_SIZE 만큼 id 를 한 번에 받아와서 메모리에서 나눠 쓴다.
+ *
+ * 행 이름(pkColumnValue)은 테이블 이름을 그대로 쓴다. 기존 데이터 위로 시작값을 맞추는 건 IdGeneratorSeeder.
+ */
+public final class IdGenerator {
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "gen_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50; // hibernate.jdbc.batch_size 와 맞춤
+
+    public static final String REVIEW = "review";
+    public static final String TAG_MAP = "tag_map";
+    public static final String NOTIFICATION = "notification";
+    public static final String PARTY_JOIN = "party_join";
+    public static final String PARTY_COMMENT = "party_comment";
+    public static final String SAVED_THEME = "saved_theme";
+
+    public static final List<String> TABLES = List.of(REVIEW, TAG_MAP, NOTIFICATION, PARTY_JOIN, PARTY_COMMENT, SAVED_THEME);
+
+    private IdGenerator() {
+    }
+}
@@ -3,6 +3,8 @@ package org.example.scrd.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.scrd.BaseEntity;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Getter
@@ -13,7 +15,10 @@ import org.example.scrd.BaseEntity;
 public class Notification extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "notification_id")
+    @TableGenerator(name = "notification_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.NOTIFICATION, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
 
     // 알림 받는 사람
@@ -26,7 +31,9 @@ public class Notification extends BaseEntity {
     @JoinColumn(name = "sender_id")
     private User sender;
 
+    // MySQL enum 컬럼이면 값을 추가할 때마다 ALTER 가 필요해서 varchar 로 둔다 (기존 테이블은 EnumColumnSeeder)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false, length = 50)
     private NotificationType type;
 
@@ -47,6 +54,7 @@ public class Notification extends BaseEntity {
         APPROVED,
         REJECTED,
         COMMENT,           // 새로 추가: 댓글 알림
-        REPLY             // 새로 추가: 대댓글 알림
+        REPLY,            // 새로 추가: 대댓글 알림
+        WAITLIST_PROMOTED // 대기 중이던 일행 신청이 접수로 올라감
     }
 }
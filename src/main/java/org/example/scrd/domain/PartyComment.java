@@ -17,7 +17,10 @@ import java.util.List;
 public class PartyComment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "party_comment_id")
+    @TableGenerator(name = "party_comment_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.PARTY_COMMENT, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,8 @@ package org.example.scrd.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.example.scrd.BaseEntity;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 
 @Entity
@@ -11,11 +13,17 @@ import org.example.scrd.BaseEntity;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "party_join")
+@Table(name = "party_join",
+        indexes = {
+                @Index(name = "idx_party_join_post_status", columnList = "post_id, status, regDate") // 대기열 순서 조회
+        })
 public class PartyJoin extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "party_join_id")
+    @TableGenerator(name = "party_join_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.PARTY_JOIN, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,13 +34,17 @@ public class PartyJoin extends BaseEntity {
     @JoinColumn(name = "user_id")
     private User user;
 
+    // MySQL enum 컬럼이면 값을 추가할 때마다 ALTER 가 필요해서 varchar 로 둔다 (기존 테이블은 EnumColumnSeeder)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20)
     private JoinStatus status;
 
     public enum JoinStatus {
         PENDING,
         APPROVED,
-        REJECTED
+        REJECTED,
+        WAITING   // 정원이 차서 대기 중. 자리가 나면 신청 순서대로 PENDING 으로 올라간다
     }
 
 
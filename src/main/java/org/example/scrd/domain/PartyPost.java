@@ -16,7 +16,10 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "party_post")
+@Table(name = "party_post",
+        indexes = {
+                @Index(name = "idx_party_post_closed_deadline", columnList = "isClosed, deadline") // 마감 스케줄러 시드
+        })
 public class PartyPost extends BaseEntity {
 
     @Id
@@ -54,7 +57,11 @@ public class PartyPost extends BaseEntity {
     public void decreaseParticipantCount() {
         if (this.currentParticipants > 0) {
             this.currentParticipants--;
-            this.isClosed = false;
+            this.isClosed = isExpired(LocalDateTime.now()); // 마감 시각이 지났으면 자리가 나도 닫힌 채로
         }
     }
+
+    public boolean isExpired(LocalDateTime now) {
+        return this.deadline != null && !this.deadline.isAfter(now);
+    }
 }
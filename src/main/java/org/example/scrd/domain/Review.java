@@ -13,9 +13,18 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 테마 리뷰 목록 커서 페이지 (최신순)
+        @Index(name = "idx_review_theme_reg_date", columnList = "themeId, regDate DESC, id DESC"),
+        // 내가 쓴 리뷰 커서 페이지 (최신순)
+        @Index(name = "idx_review_user_reg_date", columnList = "userId, regDate DESC, id DESC")
+})
 public class Review extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "review_id")
+    @TableGenerator(name = "review_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.REVIEW, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
     private String text;
     private int level; // 난이도
@@ -44,7 +53,7 @@ public class Review extends BaseEntity {
     public static Review addReviewFrom(User user, ReviewCreateRequestDto dto, Theme theme) {
         Review review =
                 Review.builder()
-                        .user(user.addReviewFrom(user))
+                        .user(user)
                         .text(dto.getText())
                         .level(dto.getLevel())
                         .stars(dto.getStars())
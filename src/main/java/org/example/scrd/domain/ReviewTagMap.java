@@ -15,7 +15,10 @@ import org.example.scrd.BaseEntity;
 @Table(name = "tag_map")
 public class ReviewTagMap extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "tag_map_id")
+    @TableGenerator(name = "tag_map_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.TAG_MAP, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
 
     // 연관된 리뷰
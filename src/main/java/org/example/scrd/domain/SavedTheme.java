@@ -19,7 +19,10 @@ import org.example.scrd.BaseEntity;
 @AllArgsConstructor
 public class SavedTheme extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "saved_theme_id")
+    @TableGenerator(name = "saved_theme_id", table = IdGenerator.TABLE,
+            pkColumnName = IdGenerator.PK_COLUMN, valueColumnName = IdGenerator.VALUE_COLUMN,
+            pkColumnValue = IdGenerator.SAVED_THEME, allocationSize = IdGenerator.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
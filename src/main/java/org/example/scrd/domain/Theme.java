@@ -7,16 +7,28 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.example.scrd.BaseEntity;
 import org.example.scrd.dto.ThemeDto;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "theme") // HibernateConfig.THEME_REGION
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // combined 정렬을 인덱스 역순 스캔 + LIMIT 으로 처리하기 위한 인덱스
+        @Index(name = "idx_theme_combined_score", columnList = "combined_score, id")
+})
 public class Theme extends BaseEntity {
+    // 베이지안 가중 평점의 사전값: 리뷰가 적은 테마는 PRIOR_MEAN 쪽으로 당겨진다.
+    public static final float PRIOR_MEAN = 3.0f;
+    public static final int PRIOR_WEIGHT = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -38,6 +50,8 @@ public class Theme extends BaseEntity {
     private Float level;
     @Column
     private Integer reviewCount;
+    @Column(name = "combined_score")
+    private Float combinedScore; // 추천순 정렬용 베이지안 가중 평점 (리뷰 없으면 0)
 
 
 
@@ -58,6 +72,7 @@ public class Theme extends BaseEntity {
                 .branch(dto.getBranch())
                 .brand(dto.getBrand())
                 .playtime(dto.getPlaytime() != null ? dto.getPlaytime() : -1)
+                .combinedScore(0f)
                 .build();
     }
 
@@ -73,20 +88,5 @@ public class Theme extends BaseEntity {
         this.playtime = dto.getPlaytime() != null ? dto.getPlaytime() : -1;
     }
 
-    public void updateRatingAndFlags(float avgRating, float level, float horrorAvg, float activityAvg) {
-        this.rating = avgRating;
-        this.level = level;
-        this.horror = horrorAvg >= 0.5 ? 1 : 0;
-        this.activity = activityAvg >= 0.5 ? 1 : 0;
-    }
-
-    public void increaseReviewCount() {
-        this.reviewCount = (this.reviewCount != null ? this.reviewCount + 1 : 1);
-    }
-
-    public void decreaseReviewCount() {
-        this.reviewCount = (this.reviewCount != null && this.reviewCount > 0 ? this.reviewCount - 1 : 0);
-    }
-
 
 }
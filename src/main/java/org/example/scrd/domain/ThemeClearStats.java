@@ -0,0 +1,60 @@
+package org.example.scrd.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.scrd.BaseEntity;
+
+/**
+ * 테마별 클리어 통계: 클리어 시간 분포, 성공률, 평균 힌트 수.
+ * 집계 주기마다 리뷰 작성/삭제로 쌓인 증감분(ThemeClearStatsDelta)만 더해 두어서
+ * 상세 화면도, 집계도 리뷰를 훑지 않고 p25/p50/p90 을 보여준다.
+ * 값이 없는 항목(성공 여부 미입력, 해석 안 되는 클리어 시간 등)은 해당 통계에서만 빠진다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "theme_clear_stats",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_theme_clear_stats", columnNames = "themeId")
+        })
+public class ThemeClearStats extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long themeId;
+
+    private int resultCount; // 성공 여부를 입력한 리뷰 수
+    private int successCount;
+    private int hintReviewCount; // 힌트 수를 입력한 리뷰 수
+    private long hintTotal;
+
+    @Convert(converter = ClearTimeHistogramConverter.class)
+    @Column(columnDefinition = "TEXT")
+    private ClearTimeHistogram clearTimes = ClearTimeHistogram.empty();
+
+    public ThemeClearStats(Long themeId) {
+        this.themeId = themeId;
+    }
+
+    // 카운트는 0 밑으로 내려가지 않게 자른다 (통계 행이 생기기 전에 쓰인 리뷰가 지워지는 경우)
+    public void apply(ThemeClearStatsDelta delta) {
+        resultCount = Math.max(resultCount + delta.getResultCount(), 0);
+        successCount = Math.max(successCount + delta.getSuccessCount(), 0);
+        hintReviewCount = Math.max(hintReviewCount + delta.getHintReviewCount(), 0);
+        hintTotal = Math.max(hintTotal + delta.getHintTotal(), 0);
+        ClearTimeHistogram current = clearTimes != null ? clearTimes : ClearTimeHistogram.empty();
+        clearTimes = current.merge(delta.getAddedClearTimes()).subtract(delta.getRemovedClearTimes());
+    }
+
+    public Float getSuccessRate() {
+        return resultCount == 0 ? null : (float) successCount / resultCount;
+    }
+
+    public Float getAverageHintCount() {
+        return hintReviewCount == 0 ? null : (float) hintTotal / hintReviewCount;
+    }
+}
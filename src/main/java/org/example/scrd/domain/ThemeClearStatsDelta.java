@@ -0,0 +1,67 @@
+package org.example.scrd.domain;
+
+import lombok.Getter;
+import org.example.scrd.util.ClearTimeParser;
+
+/**
+ * 한 집계 주기 동안 테마 하나에 쌓인 클리어 통계 증감분.
+ * 리뷰 작성은 add, 삭제는 remove 로 쌓고 ThemeClearStats.apply 로 저장된 행에 한 번에 반영한다.
+ * 클리어 시간은 분포를 뺄 수 있도록 추가분/삭제분을 따로 모은다.
+ * 스레드 안전하지 않으니 ThemeAggregateService 의 맵 compute 안에서만 바꾼다.
+ */
+@Getter
+public class ThemeClearStatsDelta {
+    private int resultCount; // 성공 여부를 입력한 리뷰 수
+    private int successCount;
+    private int hintReviewCount; // 힌트 수를 입력한 리뷰 수
+    private long hintTotal;
+    private ClearTimeHistogram addedClearTimes = ClearTimeHistogram.empty();
+    private ClearTimeHistogram removedClearTimes = ClearTimeHistogram.empty();
+
+    public ThemeClearStatsDelta add(Boolean isSuccessful, Integer hintUsageCount, String clearTime) {
+        adjust(isSuccessful, hintUsageCount, 1);
+        Integer seconds = clearSeconds(isSuccessful, clearTime);
+        if (seconds != null) {
+            addedClearTimes = addedClearTimes.add(seconds);
+        }
+        return this;
+    }
+
+    public ThemeClearStatsDelta remove(Boolean isSuccessful, Integer hintUsageCount, String clearTime) {
+        adjust(isSuccessful, hintUsageCount, -1);
+        Integer seconds = clearSeconds(isSuccessful, clearTime);
+        if (seconds != null) {
+            removedClearTimes = removedClearTimes.add(seconds);
+        }
+        return this;
+    }
+
+    // 반영에 실패한 증감분을 그 사이 새로 쌓인 증감분에 다시 합칠 때
+    public ThemeClearStatsDelta merge(ThemeClearStatsDelta other) {
+        resultCount += other.resultCount;
+        successCount += other.successCount;
+        hintReviewCount += other.hintReviewCount;
+        hintTotal += other.hintTotal;
+        addedClearTimes = addedClearTimes.merge(other.addedClearTimes);
+        removedClearTimes = removedClearTimes.merge(other.removedClearTimes);
+        return this;
+    }
+
+    private void adjust(Boolean isSuccessful, Integer hintUsageCount, int sign) {
+        if (isSuccessful != null) {
+            resultCount += sign;
+            if (isSuccessful) {
+                successCount += sign;
+            }
+        }
+        if (hintUsageCount != null) {
+            hintReviewCount += sign;
+            hintTotal += (long) sign * hintUsageCount;
+        }
+    }
+
+    // 실패한 방탈출은 클리어 시간이 의미 없으니 분포에서 뺀다
+    private static Integer clearSeconds(Boolean isSuccessful, String clearTime) {
+        return Boolean.FALSE.equals(isSuccessful) ? null : ClearTimeParser.toSeconds(clearTime);
+    }
+}
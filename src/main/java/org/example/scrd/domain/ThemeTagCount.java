@@ -0,0 +1,40 @@
+package org.example.scrd.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.scrd.BaseEntity;
+
+/**
+ * 테마별 태그 집계 ("이 테마 리뷰에서 많이 붙은 태그").
+ * 리뷰 작성/삭제 트랜잭션 안에서 증감해서 상세 화면이 tag_map GROUP BY 를 하지 않게 한다.
+ * (tagId, reviewCount) 인덱스는 "태그 X 가 많이 붙은 테마" 역방향 조회용.
+ */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "theme_tag_count",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_theme_tag_count", columnNames = {"themeId", "tagId"})
+        },
+        indexes = {
+                @Index(name = "idx_theme_tag_count_tag", columnList = "tagId, reviewCount DESC, themeId DESC")
+        })
+public class ThemeTagCount extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long themeId;
+
+    @Column(nullable = false)
+    private Long tagId;
+
+    @Column(nullable = false)
+    private int reviewCount;
+}
@@ -49,7 +49,7 @@ public class User extends BaseEntity {
     private String nickName;
 
     @Setter
-    private int point; // 결제 시스템 적용 후 사용되는 포인트 review 작성시 +500
+    private int point; // 결제 시스템 적용 후 사용되는 포인트 review 작성시 +500 (UserRepository.addReviewReward)
     @Setter
     private int count; // review 쓸때마다 +1
 
@@ -75,10 +75,5 @@ public class User extends BaseEntity {
                 .role(Role.ROLE_USER) // 기본 권한 설정
                 .build();
     }
-    public static User addReviewFrom(User user) {
-        user.setPoint(user.getPoint() + 500); // 포인트 500 증가
-        user.setCount(user.getCount() + 1);   // 리뷰 횟수 1 증가
-        return user;
-    }
 
 }
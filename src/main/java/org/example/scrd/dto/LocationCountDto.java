@@ -3,9 +3,11 @@ package org.example.scrd.dto;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.io.Serializable;
+
 @Data
 @AllArgsConstructor
-public class LocationCountDto {
+public class LocationCountDto implements Serializable {
     private String location;
     private Long count;
 }
@@ -26,7 +26,34 @@ public class MobileThemeDto extends ThemeDto {
                 theme.getHorror(),
                 theme.getActivity(),
                 theme.getLevel(),
-                theme.getReviewCount()
+                theme.getReviewCount(),
+                null, // 태그 집계/클리어 통계는 상세에서만
+                null
+        );
+        this.availableTimes = availableTimes;
+    }
+
+    // 목록 카드용: description / url / proportion 은 채우지 않는다 (상세 API 에서 조회)
+    public MobileThemeDto(ThemeCard card, List<String> availableTimes) {
+        super(
+                card.getId(),
+                card.getTitle(),
+                null,
+                card.getLocation(),
+                card.getPrice(),
+                card.getImage(),
+                null,
+                card.getBrand(),
+                card.getBranch(),
+                card.getPlaytime(),
+                card.getRating(),
+                null,
+                card.getHorror(),
+                card.getActivity(),
+                card.getLevel(),
+                card.getReviewCount(),
+                null,
+                null
         );
         this.availableTimes = availableTimes;
     }
@@ -38,6 +65,10 @@ public class MobileThemeDto extends ThemeDto {
                 .build();
     }
 
+    public static MobileThemeDto from(ThemeCard card, List<String> availableTimes) {
+        return new MobileThemeDto(card, availableTimes);
+    }
+
     public List<String> getAvailableTimes() {
         return availableTimes;
     }
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import org.example.scrd.domain.Review;
 import org.example.scrd.domain.Theme;
+import org.example.scrd.domain.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -60,4 +61,29 @@ public class MyReviewResponseDto {
                 .themeImage(theme.getImage())
                 .build();
     }
+
+    // 커서 페이지용: 작성자는 요청한 유저 본인이라 조회하지 않고 그대로 사용
+    public static MyReviewResponseDto from(MyReviewRow row, User user, List<String> tagNames) {
+        return MyReviewResponseDto.builder()
+                .userTier(user.getTier().getTierE())
+                .nickName(user.getNickName())
+                .id(row.getId())
+                .text(row.getText())
+                .level(row.getLevel())
+                .stars(row.getStars())
+                .horror(row.getHorror())
+                .activity(row.getActivity())
+                .hintUsageCount(row.getHintUsageCount())
+                .isSuccessful(row.getIsSuccessful())
+                .clearTime(row.getClearTime())
+                .regDate(row.getRegDate())
+                .tagNames(tagNames)
+
+                .themeBrand(row.getThemeBrand())
+                .themeTitle(row.getThemeTitle())
+                .themeBranch(row.getThemeBranch())
+                .themeLocation(row.getThemeLocation())
+                .themeImage(row.getThemeImage())
+                .build();
+    }
 }
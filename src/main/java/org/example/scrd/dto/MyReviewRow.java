@@ -0,0 +1,28 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 쓴 리뷰 목록용 프로젝션 (리뷰 컬럼 + 프로필에 보여줄 테마 컬럼만, 유저는 조회하지 않음)
+@Getter
+@AllArgsConstructor
+public class MyReviewRow {
+    private Long id;
+    private String text;
+    private int level;
+    private int stars;
+    private int horror;
+    private int activity;
+    private Integer hintUsageCount;
+    private Boolean isSuccessful;
+    private String clearTime;
+    private LocalDateTime regDate;
+
+    private String themeTitle;
+    private String themeBrand;
+    private String themeBranch;
+    private String themeLocation;
+    private String themeImage;
+}
@@ -0,0 +1,40 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scrd.exception.InvalidCursorException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 리뷰 목록 커서 (regDate, id). 최신순이라 이 값보다 "앞선" 리뷰를 다음 페이지로 가져온다.
+ * 문자열 형식: "2025-06-01T12:30:00.123456_1234"
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewCursor {
+    private static final char SEPARATOR = '_';
+
+    private LocalDateTime regDate;
+    private Long id;
+
+    public String encode() {
+        return regDate.toString() + SEPARATOR + id;
+    }
+
+    // null/빈 값이면 첫 페이지
+    public static ReviewCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        int idx = cursor.lastIndexOf(SEPARATOR);
+        try {
+            return new ReviewCursor(
+                    LocalDateTime.parse(cursor.substring(0, idx)),
+                    Long.parseLong(cursor.substring(idx + 1)));
+        } catch (IndexOutOfBoundsException | DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
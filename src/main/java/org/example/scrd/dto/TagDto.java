@@ -0,0 +1,18 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scrd.domain.Tag;
+
+import java.io.Serializable;
+
+@Getter
+@AllArgsConstructor
+public class TagDto implements Serializable {
+    private Long id;
+    private String tagName;
+
+    public static TagDto from(Tag tag) {
+        return new TagDto(tag.getId(), tag.getTagName());
+    }
+}
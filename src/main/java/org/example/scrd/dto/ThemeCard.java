@@ -0,0 +1,23 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 목록 카드용 테마 프로젝션 (description 같은 큰 TEXT 컬럼은 조회하지 않음)
+@Getter
+@AllArgsConstructor
+public class ThemeCard {
+    private Long id;
+    private String title;
+    private String image;
+    private String location;
+    private String brand;
+    private String branch;
+    private Integer price;
+    private Integer playtime;
+    private Float rating;
+    private Integer horror;
+    private Integer activity;
+    private Float level;
+    private Integer reviewCount;
+}
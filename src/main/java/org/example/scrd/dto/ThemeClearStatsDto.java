@@ -0,0 +1,31 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scrd.domain.ClearTimeHistogram;
+import org.example.scrd.domain.ThemeClearStats;
+
+import java.io.Serializable;
+
+// 테마 상세의 클리어 통계. 시간은 초 단위, 데이터가 없으면 null
+@Getter
+@AllArgsConstructor
+public class ThemeClearStatsDto implements Serializable {
+    private Integer clearTimeP25;
+    private Integer clearTimeP50;
+    private Integer clearTimeP90;
+    private long clearTimeCount; // 분포에 들어간 리뷰 수
+    private Float successRate;
+    private Float averageHintCount;
+
+    public static ThemeClearStatsDto from(ThemeClearStats stats) {
+        ClearTimeHistogram clearTimes = stats.getClearTimes() != null ? stats.getClearTimes() : ClearTimeHistogram.empty();
+        return new ThemeClearStatsDto(
+                clearTimes.quantile(0.25),
+                clearTimes.quantile(0.5),
+                clearTimes.quantile(0.9),
+                clearTimes.total(),
+                stats.getSuccessRate(),
+                stats.getAverageHintCount());
+    }
+}
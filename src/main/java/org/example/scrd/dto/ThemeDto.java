@@ -7,12 +7,15 @@ import lombok.Getter;
 import org.example.scrd.domain.Theme;
 import org.example.scrd.dto.request.ThemeRequest;
 
+import java.io.Serializable;
+import java.util.List;
+
 
 //@JsonInclude(JsonInclude.Include.NON_NULL)
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @AllArgsConstructor
-public class ThemeDto {
+public class ThemeDto implements Serializable {
     private Long id;
     private String title;
     private String description;
@@ -29,6 +32,10 @@ public class ThemeDto {
     private Integer activity; // 테마 활동성
     private Float level; // 테마 난이도
     private Integer reviewCount; // 테마의 리뷰 개수
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<ThemeTagCountDto> tags; // 많이 붙은 태그 (상세 조회에서만)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ThemeClearStatsDto clearStats; // 클리어 시간 분위수/성공률/평균 힌트 (상세 조회에서만)
 
     public static ThemeDto from(ThemeRequest request){
         return ThemeDto.builder()
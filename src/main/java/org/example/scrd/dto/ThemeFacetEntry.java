@@ -0,0 +1,35 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scrd.domain.Theme;
+
+// 필터/패싯 계산용 경량 테마 정보 (TEXT 컬럼 제외)
+@Getter
+@AllArgsConstructor
+public class ThemeFacetEntry {
+    private Long id;
+    private String title;
+    private String brand;
+    private String location;
+    private Integer horror;
+    private Integer activity;
+    private Float level;
+
+    public static ThemeFacetEntry from(Theme theme) {
+        return new ThemeFacetEntry(
+                theme.getId(),
+                theme.getTitle(),
+                theme.getBrand(),
+                theme.getLocation(),
+                theme.getHorror(),
+                theme.getActivity(),
+                theme.getLevel()
+        );
+    }
+
+    // 난이도 구간 (1.0 ~ 1.9 → 1)
+    public Integer getLevelBucket() {
+        return level != null ? (int) Math.floor(level) : null;
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 테마 평점/공포도/활동성/난이도 재계산용 집계 (리뷰 테이블 한 번 조회). 리뷰가 없으면 평균은 null
+@Getter
+@AllArgsConstructor
+public class ThemeReviewAggregate {
+    private Long reviewCount;
+    private Double starsAvg;
+    private Double horrorAvg;
+    private Double activityAvg;
+    private Double levelAvg;
+
+    public float stars() {
+        return starsAvg != null ? starsAvg.floatValue() : 0.0f;
+    }
+
+    public float horror() {
+        return horrorAvg != null ? horrorAvg.floatValue() : 0.0f;
+    }
+
+    public float activity() {
+        return activityAvg != null ? activityAvg.floatValue() : 0.0f;
+    }
+
+    public float level() {
+        return levelAvg != null ? levelAvg.floatValue() : 0.0f;
+    }
+}
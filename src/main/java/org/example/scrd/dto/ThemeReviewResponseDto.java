@@ -34,21 +34,26 @@ public static ThemeReviewResponseDto from(Review review) {
             .map(tagMap -> tagMap.getTag().getTagName())
             .toList();
 
-    return ThemeReviewResponseDto.builder()
-            .userId(review.getUser().getId())
-            .userTier(review.getUser().getTier().getTierE()) // <- 여기 수정
-            .nickName(review.getUser().getNickName())
-            .id(review.getId())
-            .text(review.getText())
-            .level(review.getLevel())
-            .stars(review.getStars())
-            .horror(review.getHorror())
-            .activity(review.getActivity())
-            .hintUsageCount(review.getHintUsageCount())
-            .isSuccessful(review.getIsSuccessful())
-            .clearTime(review.getClearTime())
-            .tagNames(tagNames)
-            .regDate(review.getRegDate())
-            .build();
+    return from(review, tagNames);
     }
-}
\ No newline at end of file
+
+    // 태그 이름을 리뷰 id 로 미리 한 번에 조회해 둔 경우 (커서 페이지)
+    public static ThemeReviewResponseDto from(Review review, List<String> tagNames) {
+        return ThemeReviewResponseDto.builder()
+                .userId(review.getUser().getId())
+                .userTier(review.getUser().getTier().getTierE())
+                .nickName(review.getUser().getNickName())
+                .id(review.getId())
+                .text(review.getText())
+                .level(review.getLevel())
+                .stars(review.getStars())
+                .horror(review.getHorror())
+                .activity(review.getActivity())
+                .hintUsageCount(review.getHintUsageCount())
+                .isSuccessful(review.getIsSuccessful())
+                .clearTime(review.getClearTime())
+                .tagNames(tagNames)
+                .regDate(review.getRegDate())
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.scrd.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+// 테마 상세의 "이 테마에 많이 붙은 태그"
+@Getter
+@AllArgsConstructor
+public class ThemeTagCountDto implements Serializable {
+    private Long tagId;
+    private String tagName;
+    private int count;
+}
@@ -0,0 +1,17 @@
+package org.example.scrd.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답. nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 된다 (마지막 페이지면 null).
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
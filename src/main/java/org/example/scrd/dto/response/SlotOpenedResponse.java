@@ -0,0 +1,16 @@
+package org.example.scrd.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// SSE "slot-opened" 이벤트로 전송되는 빈자리 알림
+@Getter
+@AllArgsConstructor
+public class SlotOpenedResponse {
+    private Long themeId;
+    private String title;
+    private String date;
+    private List<String> openedTimes; // 새로 열린 시간대만
+}
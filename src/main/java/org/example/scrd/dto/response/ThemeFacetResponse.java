@@ -0,0 +1,21 @@
+package org.example.scrd.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 필터 시트용 패싯 카운트.
+ * 각 항목의 카운트는 "그 항목을 제외한 나머지 필터"를 적용한 결과라서,
+ * 지역을 하나 골라도 다른 지역으로 바꿨을 때의 개수를 같이 보여줄 수 있다.
+ */
+@Getter
+@AllArgsConstructor
+public class ThemeFacetResponse {
+    private long total; // 모든 필터를 적용한 테마 수
+    private Map<String, Long> location;
+    private Map<Integer, Long> horror;
+    private Map<Integer, Long> activity;
+    private Map<Integer, Long> level; // 난이도 구간(정수 내림)별
+}
@@ -19,16 +19,21 @@ public class UserResponse {
     private int count;
 
     public static UserResponse from(User user) {
+        return from(user, user.getPoint(), user.getCount(), user.getTier());
+    }
+
+    // 포인트/리뷰 횟수는 아직 DB 에 반영 안 된 값까지 더해서 (CounterService)
+    public static UserResponse from(User user, int point, int count, Tier tier) {
         UserResponse response = new UserResponse();
         response.name = user.getName();
         response.nickName = user.getNickName();
         response.email = user.getEmail();
         response.profileImageUrl = user.getProfileImageUrl();
-        response.tier = user.getTier();
+        response.tier = tier;
         response.gender = user.getGender();
         response.birth = user.getBirth();
-        response.point = user.getPoint();
-        response.count = user.getCount();
+        response.point = point;
+        response.count = count;
         return response;
     }
 }
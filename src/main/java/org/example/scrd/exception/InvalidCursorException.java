@@ -0,0 +1,10 @@
+package org.example.scrd.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+
+    private static final String MESSAGE = "잘못된 커서입니다.";
+
+    public InvalidCursorException() {
+        super(MESSAGE);
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.scrd.repo;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scrd.dto.Tier;
+import org.example.scrd.service.Counter;
+import org.example.scrd.service.CounterWriter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카운터 증감분을 JDBC 배치 UPDATE 로 반영 (행마다 엔티티를 읽고 저장하지 않는다).
+ * 유저 리뷰 횟수가 바뀌면 등급도 같은 트랜잭션에서 다시 계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcCounterWriter implements CounterWriter {
+    // 최근에 리뷰가 오간 테마는 커밋 후 아직 Redis 에 안 쌓인 증감분이 있을 수 있어서 보정에서 뺀다
+    private static final int RECONCILE_QUIET_MINUTES = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public boolean applyBatch(Counter counter, String batchId, Map<Long, Long> deltas) {
+        int inserted = jdbcTemplate.update(
+                "INSERT IGNORE INTO counter_flush_log (batch_id, counter, applied_at) VALUES (?, ?, NOW(6))",
+                batchId, counter.name());
+        if (inserted == 0) {
+            return false; // 이전 flush 가 DB 반영 후 Redis 정리 전에 멈춘 배치
+        }
+        update(counter, deltas);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void applyDirect(Counter counter, Map<Long, Long> deltas) {
+        update(counter, deltas);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> reconcileThemeReviewCounts(Set<Long> excludedThemeIds) {
+        jdbcTemplate.update("DELETE FROM counter_flush_log WHERE applied_at < NOW(6) - INTERVAL 1 DAY");
+
+        List<long[]> mismatches = jdbcTemplate.query(
+                "SELECT t.id, COUNT(r.id) FROM theme t LEFT JOIN review r ON r.theme_id = t.id " +
+                        "GROUP BY t.id, t.review_count " +
+                        "HAVING COALESCE(t.review_count, 0) <> COUNT(r.id) " +
+                        "AND (MAX(r.reg_date) IS NULL OR MAX(r.reg_date) < NOW(6) - INTERVAL " + RECONCILE_QUIET_MINUTES + " MINUTE)",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        List<Object[]> args = new ArrayList<>();
+        List<Long> fixed = new ArrayList<>();
+        for (long[] row : mismatches) {
+            if (!excludedThemeIds.contains(row[0])) {
+                args.add(new Object[]{row[1], row[0]});
+                fixed.add(row[0]);
+            }
+        }
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE theme SET review_count = ?, mod_date = NOW(6) WHERE id = ?", args);
+        }
+        return fixed;
+    }
+
+    private void update(Counter counter, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+
+        switch (counter) {
+            // mod_date 도 올려서 테마 상세 ETag 가 바뀌게
+            case THEME_REVIEW_COUNT -> jdbcTemplate.batchUpdate(
+                    "UPDATE theme SET review_count = GREATEST(COALESCE(review_count, 0) + ?, 0), mod_date = NOW(6) WHERE id = ?", args);
+            case USER_POINT -> jdbcTemplate.batchUpdate(
+                    "UPDATE user SET point = point + ? WHERE id = ?", args);
+            case USER_REVIEW_COUNT -> {
+                jdbcTemplate.batchUpdate("UPDATE user SET count = GREATEST(count + ?, 0) WHERE id = ?", args);
+                updateTiers(deltas.keySet());
+            }
+        }
+    }
+
+    // 바뀐 리뷰 횟수로 등급 재계산, 달라진 유저만 UPDATE (등급 기준은 Tier.getTierByCount 한 곳에 둔다)
+    private void updateTiers(Set<Long> userIds) {
+        String placeholders = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        List<Object[]> args = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, count, tier FROM user WHERE id IN (" + placeholders + ")",
+                rs -> {
+                    String tier = Tier.getTierByCount(rs.getInt(2)).name();
+                    if (!tier.equals(rs.getString(3))) {
+                        args.add(new Object[]{tier, rs.getLong(1)});
+                    }
+                },
+                userIds.toArray());
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE user SET tier = ? WHERE id = ?", args);
+        }
+    }
+}
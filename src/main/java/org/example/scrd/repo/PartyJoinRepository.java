@@ -20,6 +20,16 @@ public interface PartyJoinRepository extends JpaRepository<PartyJoin, Long> {
     List<PartyJoin> findByPartyPost(PartyPost post);
     List<PartyJoin> findByPartyPostAndStatus(PartyPost post, PartyJoin.JoinStatus status);
 
+    // 글 잠금을 먼저 잡으려고 신청 엔티티를 로딩하지 않고 글 id 만
+    @Query("SELECT j.partyPost.id FROM PartyJoin j WHERE j.id = :joinId")
+    Optional<Long> findPostIdById(@Param("joinId") Long joinId);
+
+    long countByPartyPostIdAndStatus(Long partyPostId, PartyJoin.JoinStatus status);
+    boolean existsByPartyPostIdAndStatus(Long partyPostId, PartyJoin.JoinStatus status);
+
+    // 대기열 맨 앞 (신청 시각 순, 같은 시각이면 id 순)
+    Optional<PartyJoin> findFirstByPartyPostIdAndStatusOrderByRegDateAscIdAsc(Long partyPostId, PartyJoin.JoinStatus status);
+
     Optional<PartyJoin> findByPartyPostAndUser(PartyPost partyPost,User user);
     @Query("SELECT j FROM PartyJoin j JOIN FETCH j.partyPost p WHERE p.writer.id = :writerId")
     List<PartyJoin> findAllByWriterId(@Param("writerId") Long writerId);
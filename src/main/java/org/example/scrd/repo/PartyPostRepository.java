@@ -1,10 +1,46 @@
 package org.example.scrd.repo;
 
+import jakarta.persistence.LockModeType;
 import org.example.scrd.domain.PartyPost;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PartyPostRepository extends JpaRepository<PartyPost, Long>, PartyPostRepositoryCustom {
     List<PartyPost> findByIsClosedFalse();
+
+    // 신청/승인/취소/대기열 승격은 인원과 대기열을 같이 보고 바꾸니까 글 단위로 줄 세운다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PartyPost p WHERE p.id = :id")
+    Optional<PartyPost> findByIdForUpdate(@Param("id") Long id);
+
+    // 마감 스케줄러 시드: (isClosed, deadline) 인덱스 범위 조회, 가까운 마감부터
+    @Query("SELECT p.id AS id, p.deadline AS deadline FROM PartyPost p " +
+            "WHERE p.isClosed = false AND p.deadline <= :until ORDER BY p.deadline")
+    List<PartyDeadline> findOpenDeadlinesUntil(@Param("until") LocalDateTime until, Pageable pageable);
+
+    // 마감 시각이 지난 글만 닫는다 (그 사이 인원이 차서 닫혔거나 삭제된 글은 그대로)
+    @Modifying
+    @Query("UPDATE PartyPost p SET p.isClosed = true, p.modDate = :now " +
+            "WHERE p.id IN :ids AND p.isClosed = false AND p.deadline <= :now")
+    int closeExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 서버가 내려가 있던 동안 지난 마감을 한 번에
+    @Modifying
+    @Query("UPDATE PartyPost p SET p.isClosed = true, p.modDate = :now " +
+            "WHERE p.isClosed = false AND p.deadline <= :now")
+    int closeAllExpired(@Param("now") LocalDateTime now);
+
+    interface PartyDeadline {
+        Long getId();
+        LocalDateTime getDeadline();
+    }
 }
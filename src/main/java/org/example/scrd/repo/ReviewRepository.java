@@ -2,7 +2,9 @@
 package org.example.scrd.repo;
 
 import org.example.scrd.domain.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -15,4 +17,30 @@ public interface ReviewRepository extends JpaRepository<Review, Long>, ReviewRep
 
     @Query("SELECT COUNT(r) FROM Review r WHERE r.user.id = :userId")
     long countByUserId(Long userId);
+
+    // 검색 인덱스 재구성용 (id 키셋으로 배치 조회, 엔티티 로딩 없이 필요한 컬럼만)
+    @Query("SELECT r.id AS id, r.user.id AS userId, r.theme.id AS themeId, r.text AS text " +
+            "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewSearchRow> findSearchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 클리어 통계 초기화용 (id 키셋 배치)
+    @Query("SELECT r.id AS id, r.theme.id AS themeId, r.isSuccessful AS isSuccessful, " +
+            "r.hintUsageCount AS hintUsageCount, r.clearTime AS clearTime " +
+            "FROM Review r WHERE r.id > :afterId ORDER BY r.id")
+    List<ReviewClearRow> findClearRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    interface ReviewClearRow {
+        Long getId();
+        Long getThemeId();
+        Boolean getIsSuccessful();
+        Integer getHintUsageCount();
+        String getClearTime();
+    }
+
+    interface ReviewSearchRow {
+        Long getId();
+        Long getUserId();
+        Long getThemeId();
+        String getText();
+    }
 }
@@ -2,15 +2,19 @@
 package org.example.scrd.repo;
 
 import org.example.scrd.domain.Review;
+import org.example.scrd.dto.MyReviewRow;
+import org.example.scrd.dto.ReviewCursor;
+import org.example.scrd.dto.ThemeReviewAggregate;
 import java.util.List;
 
 public interface ReviewRepositoryCustom {
-    List<Review> searchReviews(String contentKeyword, Long userId, Long themeId);
     float getAverageScoreByThemeId(Long themeId);
-    float getAverageHorrorByThemeId(Long themeId);
-    float getAverageActivityByThemeId(Long themeId);
 
-    Float getAverageLevelByThemeId(Long themeId);
+    ThemeReviewAggregate getThemeReviewAggregate(Long themeId);
+
+    List<Review> findThemeReviewPage(Long themeId, ReviewCursor cursor, int limit);
+
+    List<MyReviewRow> findMyReviewPage(Long userId, ReviewCursor cursor, int limit);
 
 
 }
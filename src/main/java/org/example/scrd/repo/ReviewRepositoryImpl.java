@@ -3,8 +3,15 @@ package org.example.scrd.repo;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import org.example.scrd.domain.QReview;
+import org.example.scrd.domain.QTheme;
+import org.example.scrd.domain.QUser;
 import org.example.scrd.domain.Review;
+import org.example.scrd.dto.MyReviewRow;
+import org.example.scrd.dto.ReviewCursor;
+import org.example.scrd.dto.ThemeReviewAggregate;
 
 import java.util.List;
 
@@ -13,20 +20,6 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
 
-    @Override
-    public List<Review> searchReviews(String contentKeyword, Long userId, Long themeId) {
-        QReview review = QReview.review;
-
-        return queryFactory
-                .selectFrom(review)
-                .where(
-                        contentKeyword != null ? review.text.containsIgnoreCase(contentKeyword) : null,
-                        userId != null ? review.user.id.eq(userId) : null,
-                        themeId != null ? review.theme.id.eq(themeId) : null
-                )
-                .fetch();
-    }
-
     @Override
     public float getAverageScoreByThemeId(Long themeId) {
         QReview review = QReview.review;
@@ -40,44 +33,84 @@ public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
         return avg != null ? avg.floatValue() : 0.0f;
     }
 
+    // 평점/공포도/활동성/난이도 평균과 리뷰 수를 한 번에 (예전에는 컬럼마다 AVG 쿼리 4번)
     @Override
-    public float getAverageHorrorByThemeId(Long themeId) {
+    public ThemeReviewAggregate getThemeReviewAggregate(Long themeId) {
         QReview review = QReview.review;
 
-        Double avg = queryFactory
-                .select(review.horror.avg())
+        return queryFactory
+                .select(Projections.constructor(ThemeReviewAggregate.class,
+                        review.count(),
+                        review.stars.avg(),
+                        review.horror.avg(),
+                        review.activity.avg(),
+                        review.level.avg()))
                 .from(review)
                 .where(review.theme.id.eq(themeId))
                 .fetchOne();
-
-        return avg != null ? avg.floatValue() : 0.0f;
     }
 
+    // (themeId, regDate DESC, id DESC) 인덱스를 타는 키셋 페이지. 유저/테마는 fetch join 으로 같이 가져온다.
+    // 태그는 컬렉션이라 fetch join 하면 LIMIT 을 DB 에서 못 걸어서 리뷰 id 로 따로 한 번에 조회한다.
     @Override
-    public float getAverageActivityByThemeId(Long themeId) {
+    public List<Review> findThemeReviewPage(Long themeId, ReviewCursor cursor, int limit) {
         QReview review = QReview.review;
 
-        Double avg = queryFactory
-                .select(review.activity.avg())
-                .from(review)
-                .where(review.theme.id.eq(themeId))
-                .fetchOne();
-
-        return avg != null ? avg.floatValue() : 0.0f;
+        return queryFactory
+                .selectFrom(review)
+                .join(review.user, QUser.user).fetchJoin()
+                .join(review.theme, QTheme.theme).fetchJoin()
+                .where(
+                        review.theme.id.eq(themeId),
+                        before(review, cursor)
+                )
+                .orderBy(review.regDate.desc(), review.id.desc())
+                .limit(limit)
+                .fetch();
     }
 
-    // ReviewRepositoryImpl.java
+    // (userId, regDate DESC, id DESC) 인덱스를 타는 키셋 페이지. 엔티티 대신 필요한 컬럼만 프로젝션
+    // (테마 description 같은 TEXT 컬럼이나 유저는 읽지 않음)
     @Override
-    public Float getAverageLevelByThemeId(Long themeId) {
+    public List<MyReviewRow> findMyReviewPage(Long userId, ReviewCursor cursor, int limit) {
         QReview review = QReview.review;
+        QTheme theme = QTheme.theme;
 
-        Double avg = queryFactory
-                .select(review.level.avg())
+        return queryFactory
+                .select(Projections.constructor(MyReviewRow.class,
+                        review.id,
+                        review.text,
+                        review.level,
+                        review.stars,
+                        review.horror,
+                        review.activity,
+                        review.hintUsageCount,
+                        review.isSuccessful,
+                        review.clearTime,
+                        review.regDate,
+                        theme.title,
+                        theme.brand,
+                        theme.branch,
+                        theme.location,
+                        theme.image))
                 .from(review)
-                .where(review.theme.id.eq(themeId))
-                .fetchOne();
+                .join(review.theme, theme)
+                .where(
+                        review.user.id.eq(userId),
+                        before(review, cursor)
+                )
+                .orderBy(review.regDate.desc(), review.id.desc())
+                .limit(limit)
+                .fetch();
+    }
 
-        return avg != null ? avg.floatValue() : 0.0f;
+    // 최신순 커서: (regDate, id) 가 커서보다 앞선 것
+    private BooleanExpression before(QReview review, ReviewCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return review.regDate.lt(cursor.getRegDate())
+                .or(review.regDate.eq(cursor.getRegDate()).and(review.id.lt(cursor.getId())));
     }
 
 }
@@ -8,10 +8,26 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface ReviewTagMapRepository extends JpaRepository<ReviewTagMap, Long> {
 
     @Transactional
     @Modifying
     @Query("DELETE FROM ReviewTagMap rtm WHERE rtm.review = :review")
     void deleteAllByReview(@Param("review") Review review);
+
+    @Query("SELECT rtm.tag.id FROM ReviewTagMap rtm WHERE rtm.review = :review")
+    List<Long> findTagIdsByReview(@Param("review") Review review);
+
+    // 리뷰 목록 페이지의 태그 이름을 한 번에 조회 (리뷰마다 tagMaps 를 지연 로딩하지 않도록)
+    @Query("SELECT rtm.review.id AS reviewId, t.tagName AS tagName FROM ReviewTagMap rtm JOIN rtm.tag t " +
+            "WHERE rtm.review.id IN :reviewIds ORDER BY rtm.id")
+    List<ReviewTagName> findTagNamesByReviewIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    interface ReviewTagName {
+        Long getReviewId();
+        String getTagName();
+    }
 }
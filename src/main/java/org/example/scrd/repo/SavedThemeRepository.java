@@ -4,6 +4,7 @@ import org.example.scrd.domain.SavedTheme;
 import org.example.scrd.domain.Theme;
 import org.example.scrd.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +13,13 @@ import java.util.List;
 public interface SavedThemeRepository extends JpaRepository<SavedTheme, Long> {
     void deleteByUserAndTheme(User user, Theme theme);
     List<SavedTheme> findByUser(User user);
+
+    // 테마 → 저장한 유저 역인덱스 구성용 (엔티티 로딩 없이 id만 조회)
+    @Query("SELECT s.theme.id AS themeId, s.user.id AS userId FROM SavedTheme s")
+    List<ThemeUserIds> findAllThemeUserIds();
+
+    interface ThemeUserIds {
+        Long getThemeId();
+        Long getUserId();
+    }
 }
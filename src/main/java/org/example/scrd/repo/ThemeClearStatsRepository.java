@@ -0,0 +1,53 @@
+package org.example.scrd.repo;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.scrd.domain.ThemeClearStats;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ThemeClearStatsRepository extends JpaRepository<ThemeClearStats, Long> {
+
+    // 백필에서 다시 계산한 값으로 덮어쓴다. 유니크 키 (theme_id) 기준 upsert 라 처음부터 배타 잠금을 잡는다
+    // (INSERT IGNORE 후 SELECT ... FOR UPDATE 는 공유 잠금 → 배타 잠금 승격에서 교착이 났다)
+    // native DML 이라 바뀌는 테이블을 지정해서 다른 2차 캐시 영역(theme/tag)은 건드리지 않게 한다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "theme_clear_stats"))
+    @Query(value = "INSERT INTO theme_clear_stats " +
+            "(theme_id, result_count, success_count, hint_review_count, hint_total, clear_times, reg_date, mod_date) " +
+            "VALUES (:themeId, :resultCount, :successCount, :hintReviewCount, :hintTotal, :clearTimes, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE result_count = VALUES(result_count), success_count = VALUES(success_count), " +
+            "hint_review_count = VALUES(hint_review_count), hint_total = VALUES(hint_total), " +
+            "clear_times = VALUES(clear_times), mod_date = NOW(6)",
+            nativeQuery = true)
+    void upsert(@Param("themeId") Long themeId,
+                @Param("resultCount") int resultCount,
+                @Param("successCount") int successCount,
+                @Param("hintReviewCount") int hintReviewCount,
+                @Param("hintTotal") long hintTotal,
+                @Param("clearTimes") String clearTimes);
+
+    // 증감분 반영 전에 행을 만들어 두면서 배타 잠금을 잡는다 (이미 있으면 값은 그대로)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "theme_clear_stats"))
+    @Query(value = "INSERT INTO theme_clear_stats " +
+            "(theme_id, result_count, success_count, hint_review_count, hint_total, clear_times, reg_date, mod_date) " +
+            "VALUES (:themeId, 0, 0, 0, 0, '', NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE theme_id = theme_id",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("themeId") Long themeId);
+
+    // 잠금 읽기라 트랜잭션 스냅샷이 아니라 최신 행을 읽는다 (다른 서버가 방금 반영한 증감분 포함)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ThemeClearStats s WHERE s.themeId = :themeId")
+    Optional<ThemeClearStats> findByThemeIdForUpdate(@Param("themeId") Long themeId);
+
+    Optional<ThemeClearStats> findByThemeId(Long themeId);
+}
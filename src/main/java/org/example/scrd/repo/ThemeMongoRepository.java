@@ -6,6 +6,8 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +17,12 @@ public interface ThemeMongoRepository extends MongoRepository<ThemeDocument, Obj
     List<ThemeDocument> findByThemeId(Integer themeId);
     Optional<ThemeDocument> findByThemeIdAndDate(Integer themeId, String date);
 
+    // 빈자리 감지용: 저장된 테마들 중 특정 시점 이후(같은 시각 포함) 갱신된 도큐먼트만 조회
+    List<ThemeDocument> findByThemeIdInAndUpdatedAtGreaterThanEqual(Collection<Integer> themeIds, Date updatedAt);
+
+    // 빈자리 감지 초기 스냅샷용: 오늘 이후 날짜의 도큐먼트 조회 (date는 "yyyy-MM-dd" 문자열이라 사전순 비교가 가능)
+    List<ThemeDocument> findByThemeIdInAndDateGreaterThanEqual(Collection<Integer> themeIds, String date);
+
 
 
 
@@ -1,9 +1,48 @@
 package org.example.scrd.repo;
 
+import jakarta.persistence.QueryHint;
 import org.example.scrd.domain.Theme;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
 public interface ThemeRepository extends JpaRepository<Theme, Long>, ThemeRepositoryCustom {
+
+    // 전체 테마 스트리밍 조회. MySQL 드라이버는 fetchSize 가 Integer.MIN_VALUE 일 때만 행 단위로 스트리밍한다.
+    // 트랜잭션 안에서 사용하고 다 쓰면 반드시 close 할 것.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE") // 전체 스캔으로 2차 캐시를 덮지 않도록
+    })
+    @Query("SELECT t FROM Theme t")
+    Stream<Theme> streamAll();
+
+    // 2차 캐시를 읽지도 쓰지도 않고 DB 에서 바로 읽는다.
+    // 공유(Redis) 상세 캐시를 채울 때 (2차 캐시는 서버마다 따로라 다른 서버에서 바뀐 값이 남아 있을 수 있음),
+    // 집계 트랜잭션 안에서 커밋 전 값을 읽을 때 (2차 캐시에 커밋 안 된 값을 넣지 않도록) 사용.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    @Query("SELECT t FROM Theme t WHERE t.id = :themeId")
+    Optional<Theme> findFreshById(@Param("themeId") Long themeId);
+
+    // ETag 계산용 (엔티티 로딩 없이 수정 시각만)
+    @Query("SELECT t.modDate FROM Theme t WHERE t.id = :themeId")
+    Optional<LocalDateTime> findModDateById(@Param("themeId") Long themeId);
+
+    // combined_score 컬럼 추가 전 데이터 채우기 (updateAggregates 와 같은 식)
+    @Modifying
+    @Query("UPDATE Theme t SET t.combinedScore = CASE " +
+            "WHEN t.reviewCount IS NULL OR t.reviewCount = 0 OR t.rating IS NULL THEN 0 " +
+            "ELSE (:priorWeight * :priorMean + t.reviewCount * t.rating) / (:priorWeight + t.reviewCount) END " +
+            "WHERE t.combinedScore IS NULL")
+    int backfillCombinedScores(@Param("priorMean") float priorMean, @Param("priorWeight") int priorWeight);
 }
@@ -1,17 +1,20 @@
 package org.example.scrd.repo;
 
 import org.example.scrd.domain.Theme;
-import org.example.scrd.dto.LocationCountDto;
+import org.example.scrd.dto.ThemeCard;
+import org.example.scrd.dto.ThemeFacetEntry;
 import org.example.scrd.dto.ThemeDto;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ThemeRepositoryCustom {
-    List<Theme> findThemesOrderByReviewCountAndRating();
-    List<LocationCountDto> countThemesByLocation();
+    List<Theme> findThemesOrderByReviewCountAndRating(Integer limit);
+    List<ThemeFacetEntry> findAllFacetEntries();
 
-    public List<Theme> findThemesByCriteria(
+    // 목록 화면용 (TEXT 컬럼 제외 프로젝션)
+    List<ThemeCard> findThemeCardsByCriteria(
             String keyword,
             Integer horror,
             Integer activity,
@@ -23,6 +26,10 @@ public interface ThemeRepositoryCustom {
             String sort
     );
 
+    List<ThemeCard> findSavedThemeCardsByUserId(Long userId);
+
+    // 리뷰 집계 반영 (JDBC). 2차 캐시는 건드리지 않으니 호출한 쪽에서 그 테마만 evict 할 것
+    int updateAggregates(Long themeId, float rating, float level, int horror, int activity, LocalDateTime now);
 
 
 }
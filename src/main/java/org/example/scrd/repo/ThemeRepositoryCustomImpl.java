@@ -1,17 +1,23 @@
 package org.example.scrd.repo;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
-import org.example.scrd.domain.QReview;
+import org.example.scrd.domain.QSavedTheme;
 import org.example.scrd.domain.QTheme;
 import org.example.scrd.domain.Theme;
-import org.example.scrd.dto.LocationCountDto;
+import org.example.scrd.dto.ThemeCard;
+import org.example.scrd.dto.ThemeFacetEntry;
 import org.example.scrd.dto.ThemeDto;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,27 +25,42 @@ import java.util.Optional;
 public class ThemeRepositoryCustomImpl implements ThemeRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
+    // 컬럼 5개를 UPDATE 한 번으로. combined_score 는 (PRIOR_WEIGHT * PRIOR_MEAN + 리뷰수 * 평점) / (PRIOR_WEIGHT + 리뷰수)
+    // review_count 는 건드리지 않고 그 시점 값을 읽어서 쓴다 (엔티티를 읽고 저장하면 리뷰 수를 덮어쓸 수 있음).
+    // JPQL 벌크 UPDATE 나 쿼리 공간 없는 native UPDATE 는 theme 2차 캐시 영역 전체를 비워서 JDBC 로 직접 보낸다.
     @Override
-    public List<Theme> findThemesOrderByReviewCountAndRating() {
+    public int updateAggregates(Long themeId, float rating, float level, int horror, int activity, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE theme SET rating = ?, level = ?, horror = ?, activity = ?, " +
+                        "combined_score = CASE WHEN review_count IS NULL OR review_count = 0 THEN 0 " +
+                        "ELSE (? * ? + review_count * ?) / (? + review_count) END, " +
+                        "mod_date = ? WHERE id = ?",
+                rating, level, horror, activity,
+                Theme.PRIOR_WEIGHT, Theme.PRIOR_MEAN, rating, Theme.PRIOR_WEIGHT,
+                Timestamp.valueOf(now), themeId);
+    }
+
+    // 리뷰 테이블 GROUP BY 대신 미리 계산된 combined_score 인덱스를 역순으로 스캔
+    @Override
+    public List<Theme> findThemesOrderByReviewCountAndRating(Integer limit) {
         QTheme theme = QTheme.theme;
-        QReview review = QReview.review;
 
-        return queryFactory
-                .select(theme)
-                .from(review)
-                .join(review.theme, theme)
-                .groupBy(theme)
-                .orderBy(
-                        review.count().desc(),
-                        review.stars.avg().desc()
-                )
-                .fetch();
+        JPAQuery<Theme> query = queryFactory
+                .selectFrom(theme)
+                .where(theme.combinedScore.gt(0f)) // 리뷰가 있는 테마만
+                .orderBy(theme.combinedScore.desc(), theme.id.desc());
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return query.fetch();
     }
 
 
+    // 목록 필터 조건/정렬 그대로, 카드에 필요한 컬럼만 조회
     @Override
-    public List<Theme> findThemesByCriteria(
+    public List<ThemeCard> findThemeCardsByCriteria(
             String keyword,
             Integer horror,
             Integer activity,
@@ -51,6 +72,40 @@ public class ThemeRepositoryCustomImpl implements ThemeRepositoryCustom {
             String sort
     ) {
         QTheme theme = QTheme.theme;
+
+        return queryFactory
+                .select(themeCard(theme))
+                .from(theme)
+                .where(criteria(theme, keyword, horror, activity, levelMin, levelMax, location))
+                .orderBy(criteriaOrder(theme, sort))
+                .offset((long) page * size)
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<ThemeCard> findSavedThemeCardsByUserId(Long userId) {
+        QSavedTheme savedTheme = QSavedTheme.savedTheme;
+        QTheme theme = QTheme.theme;
+
+        return queryFactory
+                .select(themeCard(theme))
+                .from(savedTheme)
+                .join(savedTheme.theme, theme)
+                .where(savedTheme.user.id.eq(userId))
+                .orderBy(savedTheme.id.asc())
+                .fetch();
+    }
+
+    private BooleanBuilder criteria(
+            QTheme theme,
+            String keyword,
+            Integer horror,
+            Integer activity,
+            Float levelMin,
+            Float levelMax,
+            String location
+    ) {
         BooleanBuilder builder = new BooleanBuilder();
 
         if (keyword != null && !keyword.isEmpty()) {
@@ -65,52 +120,60 @@ public class ThemeRepositoryCustomImpl implements ThemeRepositoryCustom {
         if (levelMax != null) builder.and(theme.level.loe(levelMax));
         if (location != null && !location.isEmpty()) builder.and(theme.location.eq(location));
 
-        OrderSpecifier<?>[] orderSpecifiers;
+        return builder;
+    }
+
+    private OrderSpecifier<?>[] criteriaOrder(QTheme theme, String sort) {
         switch (sort.toLowerCase()) {
             case "rating":
-                orderSpecifiers = new OrderSpecifier[]{theme.rating.desc().nullsLast()};
-                break;
+                return new OrderSpecifier[]{theme.rating.desc().nullsLast()};
             case "reviewcount":
-                orderSpecifiers = new OrderSpecifier[]{theme.reviewCount.desc().nullsLast()};
-                break;
+                return new OrderSpecifier[]{theme.reviewCount.desc().nullsLast()};
             case "combined":
             default:
-                orderSpecifiers = new OrderSpecifier[]{
-                        theme.reviewCount.desc().nullsLast(),
-                        theme.rating.desc().nullsLast()
+                return new OrderSpecifier[]{
+                        theme.combinedScore.desc(),
+                        theme.id.desc()
                 };
-                break;
         }
-
-        return queryFactory
-                .selectFrom(theme)
-                .where(builder)
-                .orderBy(orderSpecifiers)
-                .offset((long) page * size)
-                .limit(size)
-                .fetch();
     }
 
-
+    private ConstructorExpression<ThemeCard> themeCard(QTheme theme) {
+        return Projections.constructor(
+                ThemeCard.class,
+                theme.id,
+                theme.title,
+                theme.image,
+                theme.location,
+                theme.brand,
+                theme.branch,
+                theme.price,
+                theme.playtime,
+                theme.rating,
+                theme.horror,
+                theme.activity,
+                theme.level,
+                theme.reviewCount
+        );
+    }
 
 
     @Override
-    public List<LocationCountDto> countThemesByLocation() {
+    public List<ThemeFacetEntry> findAllFacetEntries() {
         QTheme theme = QTheme.theme;
 
         return queryFactory
                 .select(Projections.constructor(
-                        LocationCountDto.class,
+                        ThemeFacetEntry.class,
+                        theme.id,
+                        theme.title,
+                        theme.brand,
                         theme.location,
-                        theme.count()
+                        theme.horror,
+                        theme.activity,
+                        theme.level
                 ))
                 .from(theme)
-                .groupBy(theme.location)
-                .orderBy(theme.count().desc())
                 .fetch();
     }
-
-
-
-
 }
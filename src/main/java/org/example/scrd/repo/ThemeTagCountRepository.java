@@ -0,0 +1,59 @@
+package org.example.scrd.repo;
+
+import jakarta.persistence.QueryHint;
+import org.example.scrd.domain.ThemeTagCount;
+import org.example.scrd.dto.ThemeTagCountDto;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ThemeTagCountRepository extends JpaRepository<ThemeTagCount, Long> {
+
+    // 태그 여러 개를 한 문장으로 +1 (없으면 1로 생성). 유니크 키 (theme_id, tag_id) 기준 upsert
+    // native DML 은 바뀌는 테이블을 알려주지 않으면 2차 캐시 전체(theme/tag)를 비우니까 theme_tag_count 만 지정
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "theme_tag_count"))
+    @Query(value = "INSERT INTO theme_tag_count (theme_id, tag_id, review_count, reg_date, mod_date) " +
+            "SELECT :themeId, t.id, 1, NOW(6), NOW(6) FROM tag t WHERE t.id IN (:tagIds) " +
+            "ON DUPLICATE KEY UPDATE review_count = review_count + 1, mod_date = NOW(6)",
+            nativeQuery = true)
+    int increment(@Param("themeId") Long themeId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query("UPDATE ThemeTagCount c SET c.reviewCount = c.reviewCount - 1 " +
+            "WHERE c.themeId = :themeId AND c.tagId IN :tagIds AND c.reviewCount > 0")
+    int decrement(@Param("themeId") Long themeId, @Param("tagIds") Collection<Long> tagIds);
+
+    // 테마 상세용: 많이 붙은 태그 순
+    @Query("SELECT new org.example.scrd.dto.ThemeTagCountDto(c.tagId, t.tagName, c.reviewCount) " +
+            "FROM ThemeTagCount c JOIN Tag t ON t.id = c.tagId " +
+            "WHERE c.themeId = :themeId AND c.reviewCount > 0 " +
+            "ORDER BY c.reviewCount DESC, c.tagId")
+    List<ThemeTagCountDto> findTagCountsByThemeId(@Param("themeId") Long themeId);
+
+    // 태그 → 테마 역방향: (tagId, reviewCount DESC, themeId DESC) 인덱스 순서 그대로
+    @Query("SELECT c.themeId FROM ThemeTagCount c " +
+            "WHERE c.tagId = :tagId AND c.reviewCount > 0 " +
+            "ORDER BY c.reviewCount DESC, c.themeId DESC")
+    List<Long> findThemeIdsByTagId(@Param("tagId") Long tagId, Pageable pageable);
+
+    // 기존 리뷰 태그로 최초 집계 (테이블이 비어 있을 때 한 번).
+    // 여러 서버가 같이 뜨거나 그 사이 리뷰 작성(increment)으로 행이 먼저 생겼을 수 있어서 upsert 로 다시 센 값을 넣는다
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "theme_tag_count"))
+    @Query(value = "INSERT INTO theme_tag_count (theme_id, tag_id, review_count, reg_date, mod_date) " +
+            "SELECT r.theme_id, tm.tag_id, COUNT(*), NOW(6), NOW(6) FROM tag_map tm " +
+            "JOIN review r ON r.id = tm.review_id GROUP BY r.theme_id, tm.tag_id " +
+            "ON DUPLICATE KEY UPDATE review_count = VALUES(review_count), mod_date = NOW(6)",
+            nativeQuery = true)
+    int backfill();
+}
@@ -0,0 +1,57 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 목록 응답의 ETag 로 쓰는 카탈로그 버전 카운터.
+ * 서버가 여러 대여도 같은 값을 봐야 해서 Redis 에 둔다.
+ * 쓰기 트랜잭션이 커밋되기 전에 버전이 오르면 예전 데이터에 새 ETag 가 붙을 수 있으니 커밋 후에 올린다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogVersionService {
+    public static final String THEME = "theme"; // 테마 정보 + 리뷰로 바뀌는 평점/난이도 등
+    public static final String PARTY = "party"; // 일행 모집글, 참여 상태
+
+    private static final String KEY_PREFIX = "catalog:version:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // Redis 장애 시 null → 조건부 응답 없이 그냥 전체 응답
+    public Long current(String catalog) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + catalog);
+            return value != null ? Long.parseLong(value) : 0L;
+        } catch (Exception e) {
+            log.warn("카탈로그 버전 조회 실패: {}", catalog, e);
+            return null;
+        }
+    }
+
+    public void bump(String catalog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(catalog);
+                }
+            });
+        } else {
+            increment(catalog);
+        }
+    }
+
+    private void increment(String catalog) {
+        try {
+            redisTemplate.opsForValue().increment(KEY_PREFIX + catalog);
+        } catch (Exception e) {
+            log.warn("카탈로그 버전 증가 실패: {}", catalog, e);
+        }
+    }
+}
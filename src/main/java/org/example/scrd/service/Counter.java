@@ -0,0 +1,18 @@
+package org.example.scrd.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * CounterService 가 Redis 에 모아 두었다가 MySQL 에 몰아서 쓰는 카운터 종류.
+ * id 는 각각 테마 id / 유저 id.
+ */
+@Getter
+@AllArgsConstructor
+public enum Counter {
+    THEME_REVIEW_COUNT("theme-review-count"),
+    USER_POINT("user-point"),
+    USER_REVIEW_COUNT("user-review-count");
+
+    private final String key;
+}
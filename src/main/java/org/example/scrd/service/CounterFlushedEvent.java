@@ -0,0 +1,16 @@
+package org.example.scrd.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 카운터 증감분이 DB 에 반영된 뒤 발행. 테마 리뷰 수가 바뀌면 가중 평점/캐시를 다시 맞춘다.
+ */
+@Getter
+@AllArgsConstructor
+public class CounterFlushedEvent {
+    private Counter counter;
+    private Set<Long> ids;
+}
@@ -0,0 +1,137 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 자주 바뀌는 카운터(테마 리뷰 수, 유저 포인트/리뷰 횟수)를 Redis 에 모았다가 MySQL 에 몰아서 쓴다 (write-behind).
+ * 리뷰 작성 요청은 테마/유저 행을 건드리지 않고 HINCRBY 만 하고, 주기마다 카운터별 배치 UPDATE 한 번으로 반영한다.
+ * 읽을 때는 DB 값에 아직 반영 안 된 증감분을 더해서 보여준다 (current).
+ *
+ * 장애 대비
+ *  - 증감은 트랜잭션 커밋 후에만 쌓는다 (롤백된 리뷰가 카운트되지 않게)
+ *  - Redis 에 못 쓰면 바로 DB 에 쓴다
+ *  - flush 는 배치 id 로 한 번만 반영된다: DB 반영 후 Redis 정리 전에 죽어도 다음 flush 가 같은 배치를 건너뛴다
+ *  - Redis 데이터가 날아가는 경우는 reconcile 이 리뷰 테이블 기준으로 테마 리뷰 수를 다시 맞춘다
+ *    (포인트/리뷰 횟수는 삭제해도 줄지 않는 누적값이라 기준 데이터가 없어서 맞추지 않음)
+ *
+ * 일행 모집 인원(currentParticipants)은 정원 체크와 마감에 바로 쓰이는 값이라 여기로 옮기지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CounterService {
+    private final CounterStore counterStore;
+    private final CounterWriter counterWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public void increment(Counter counter, Long id, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(counter, id, delta);
+                }
+            });
+        } else {
+            record(counter, id, delta);
+        }
+    }
+
+    // DB 에 저장된 값 + 아직 반영 안 된 증감분. Redis 를 못 읽으면 DB 값 그대로
+    public long current(Counter counter, Long id, long persisted) {
+        try {
+            return persisted + counterStore.pending(counter, id);
+        } catch (Exception e) {
+            log.warn("카운터 조회 실패 counter={} id={}", counter, id, e);
+            return persisted;
+        }
+    }
+
+    public boolean hasPending(Counter counter, Long id) {
+        try {
+            return counterStore.pending(counter, id) != 0;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.counter.flush-interval-ms:5000}",
+            initialDelayString = "${custom.counter.flush-interval-ms:5000}")
+    public void flush() {
+        for (Counter counter : Counter.values()) {
+            try {
+                flush(counter);
+            } catch (Exception e) {
+                log.warn("카운터 반영 실패 counter={}", counter, e); // 반영 중 칸이 남아서 다음 주기에 다시 시도
+            }
+        }
+    }
+
+    void flush(Counter counter) {
+        // 끝나지 않은 배치가 있으면 그것부터 끝내고, 이어서 새로 쌓인 것까지 처리
+        for (int i = 0; i < 2; i++) {
+            CounterStore.Batch batch = counterStore.beginFlush(counter, UUID.randomUUID().toString());
+            if (batch == null) {
+                return;
+            }
+            Map<Long, Long> deltas = new HashMap<>(batch.deltas());
+            deltas.values().removeIf(delta -> delta == 0);
+
+            if (!deltas.isEmpty()) {
+                boolean applied = counterWriter.applyBatch(counter, batch.id(), deltas);
+                counterStore.markApplied(counter, batch.id()); // 정리 전에 읽어도 DB 값과 이중으로 더하지 않게
+                if (applied) {
+                    eventPublisher.publishEvent(new CounterFlushedEvent(counter, Set.copyOf(deltas.keySet())));
+                }
+            }
+            counterStore.completeFlush(counter, batch.id());
+            if (!batch.resumed()) {
+                return;
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${custom.counter.reconcile-interval-ms:21600000}",
+            initialDelayString = "${custom.counter.reconcile-interval-ms:21600000}")
+    public void reconcile() {
+        try {
+            flush(Counter.THEME_REVIEW_COUNT);
+        } catch (Exception e) {
+            log.warn("보정 전 카운터 반영 실패", e); // 못 비운 증감분이 있는 테마는 아래에서 제외된다
+        }
+        try {
+            List<Long> fixed = counterWriter.reconcileThemeReviewCounts(counterStore.pendingIds(Counter.THEME_REVIEW_COUNT));
+            if (!fixed.isEmpty()) {
+                log.info("테마 리뷰 수 보정: {}개 테마", fixed.size());
+                eventPublisher.publishEvent(new CounterFlushedEvent(Counter.THEME_REVIEW_COUNT, Set.copyOf(fixed)));
+            }
+        } catch (Exception e) {
+            log.warn("테마 리뷰 수 보정 실패", e);
+        }
+    }
+
+    private void record(Counter counter, Long id, long delta) {
+        try {
+            counterStore.increment(counter, id, delta);
+        } catch (Exception e) {
+            log.warn("카운터 Redis 반영 실패, DB 에 바로 씀 counter={} id={}", counter, id, e);
+            counterWriter.applyDirect(counter, Map.of(id, delta));
+            eventPublisher.publishEvent(new CounterFlushedEvent(counter, Set.of(id)));
+        }
+    }
+}
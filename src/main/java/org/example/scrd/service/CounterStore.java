@@ -0,0 +1,36 @@
+package org.example.scrd.service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아직 DB 에 반영되지 않은 카운터 증감분 저장소 (운영은 Redis, 테스트는 인메모리).
+ *
+ * 카운터마다 "쌓이는 중" 과 "반영 중" 두 칸이 있다. beginFlush 가 쌓이는 중인 칸을 통째로 반영 중으로 옮기고,
+ * DB 반영이 끝나면 completeFlush 로 비운다. 그 사이에 죽으면 반영 중 칸이 남아 있어서 다음 flush 가 같은 배치 id 로 다시 가져간다.
+ * DB 반영 직후 markApplied 로 표시해 두면 completeFlush 전이라도 pending 이 반영 중 칸을 세지 않는다 (DB 값과 이중으로 더해지지 않게).
+ */
+public interface CounterStore {
+
+    void increment(Counter counter, Long id, long delta);
+
+    // 쌓이는 중 + 반영 중 (DB 값에 더하면 현재 값). 반영 중 배치가 이미 DB 에 들어갔으면(markApplied) 쌓이는 중만
+    long pending(Counter counter, Long id);
+
+    Set<Long> pendingIds(Counter counter);
+
+    /**
+     * @param newBatchId 새 배치를 만들 때 쓸 id
+     * @return 끝나지 않은 배치가 있으면 그 배치 (resumed=true), 없으면 새 배치, 반영할 게 없으면 null
+     */
+    Batch beginFlush(Counter counter, String newBatchId);
+
+    // batchId 가 아직 반영 중인 배치일 때만 표시한다
+    void markApplied(Counter counter, String batchId);
+
+    // batchId 가 아직 반영 중인 배치일 때만 비운다 (다른 서버가 먼저 끝냈으면 아무것도 안 함)
+    void completeFlush(Counter counter, String batchId);
+
+    record Batch(String id, Map<Long, Long> deltas, boolean resumed) {
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.scrd.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카운터 증감분을 MySQL 에 쓰는 쪽 (운영은 JdbcCounterWriter).
+ */
+public interface CounterWriter {
+
+    /**
+     * 배치 하나를 한 트랜잭션으로 반영한다. 같은 batchId 는 한 번만 반영된다.
+     * @return 이번에 반영했으면 true, 이미 반영된 배치면 false
+     */
+    boolean applyBatch(Counter counter, String batchId, Map<Long, Long> deltas);
+
+    // Redis 를 못 쓸 때 바로 반영
+    void applyDirect(Counter counter, Map<Long, Long> deltas);
+
+    /**
+     * 테마 리뷰 수를 리뷰 테이블 기준으로 맞춘다 (Redis 유실 등으로 어긋난 경우).
+     * @param excludedThemeIds 아직 반영 안 된 증감분이 있는 테마는 건너뛴다
+     * @return 고친 테마 id
+     */
+    List<Long> reconcileThemeReviewCounts(Set<Long> excludedThemeIds);
+}
@@ -0,0 +1,238 @@
+package org.example.scrd.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.repo.PartyPostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 마감 시각이 지난 일행 모집글 자동 마감.
+ *
+ * 다가오는 마감을 (isClosed, deadline) 인덱스로 조회해서 최소 힙에 넣어 두고, 전용 스레드가 힙의 맨 앞 마감 시각까지 잠들었다가
+ * 깨어나서 그 시각까지 지난 글을 모아 UPDATE 한 번으로 닫는다. 주기적으로 전체를 훑지 않는다.
+ * 힙에는 앞으로 horizon 안에 마감되는 글만 들고 있고, 주기적으로 다음 구간을 다시 채운다. 새 글은 작성 커밋 후 track 으로 들어온다.
+ *
+ * 서버가 여러 대여도 닫는 작업은 Redis 잠금(SET NX)을 잡은 한 대만 한다. 잠금을 못 잡으면 잠깐 뒤에 다시 시도한다
+ * (새 글은 그 글을 받은 서버 힙에만 있으니까 버리면 안 됨). UPDATE 가 실패해도 같은 글들을 힙에 다시 넣어 잠깐 뒤에 재시도한다.
+ * UPDATE 가 "아직 열려 있고 마감이 지난 글" 조건이라 두 번 닫아도 문제없다.
+ */
+@Component
+@Slf4j
+public class PartyDeadlineScheduler {
+    private static final String LOCK_KEY = "party:deadline-close:lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    private static final Duration LOCK_RETRY_DELAY = Duration.ofSeconds(1);
+    private static final Duration FAILURE_RETRY_DELAY = Duration.ofSeconds(5);
+    private static final int SEED_LIMIT = 10_000;
+    private static final int CLOSE_BATCH_SIZE = 500;
+
+    // KEYS[1]=lock / ARGV[1]=token. 내가 잡은 잠금일 때만 푼다
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final PartyPostRepository partyPostRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${custom.party-close.horizon-minutes:60}")
+    private long horizonMinutes;
+
+    private record Deadline(Long postId, LocalDateTime at) {
+    }
+
+    // this 로 동기화. 같은 글이 시드와 track 으로 두 번 들어와도 닫는 UPDATE 가 조건부라 괜찮다
+    private final PriorityQueue<Deadline> heap = new PriorityQueue<>(Comparator.comparing(Deadline::at));
+    private final String nodeToken = UUID.randomUUID().toString();
+    private volatile boolean running;
+    private Thread worker;
+
+    public PartyDeadlineScheduler(PartyPostRepository partyPostRepository,
+                                  CatalogVersionService catalogVersionService,
+                                  StringRedisTemplate redisTemplate,
+                                  PlatformTransactionManager transactionManager) {
+        this.partyPostRepository = partyPostRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        closeOverdue();
+        seed();
+        running = true;
+        worker = new Thread(this::run, "party-deadline-closer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    // 모집글 작성 시 호출. 커밋 전에 닫으려 하면 UPDATE 가 글을 못 보니까 커밋 후에 넣는다
+    public void track(Long postId, LocalDateTime deadline) {
+        if (deadline == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(postId, deadline);
+                }
+            });
+        } else {
+            enqueue(postId, deadline);
+        }
+    }
+
+    // 다음 구간(horizon) 마감을 힙에 채운다. 인덱스 범위 조회라 열린 글 전체를 읽지 않는다
+    @Scheduled(fixedDelayString = "${custom.party-close.reseed-interval-ms:1800000}",
+            initialDelayString = "${custom.party-close.reseed-interval-ms:1800000}")
+    public void seed() {
+        LocalDateTime until = LocalDateTime.now().plusMinutes(horizonMinutes);
+        List<PartyPostRepository.PartyDeadline> upcoming =
+                partyPostRepository.findOpenDeadlinesUntil(until, PageRequest.of(0, SEED_LIMIT));
+        synchronized (this) {
+            Set<Long> queued = new HashSet<>();
+            heap.forEach(deadline -> queued.add(deadline.postId()));
+            for (PartyPostRepository.PartyDeadline row : upcoming) {
+                if (queued.add(row.getId())) {
+                    heap.add(new Deadline(row.getId(), row.getDeadline()));
+                }
+            }
+            notifyAll();
+        }
+        log.debug("일행 마감 힙 시드: {}건 (~{})", upcoming.size(), until);
+    }
+
+    private synchronized void enqueue(Long postId, LocalDateTime deadline) {
+        if (deadline.isAfter(LocalDateTime.now().plusMinutes(horizonMinutes))) {
+            return; // 다음 시드 때 들어온다
+        }
+        heap.add(new Deadline(postId, deadline));
+        notifyAll(); // 맨 앞보다 이른 마감이면 대기 시간을 다시 계산
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<Long> due = awaitDue();
+                if (!due.isEmpty()) {
+                    close(due);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("일행 자동 마감 실패", e);
+            }
+        }
+    }
+
+    // 맨 앞 마감 시각까지 기다렸다가 그 시각까지 지난 글 id 를 모아서 돌려준다
+    private synchronized List<Long> awaitDue() throws InterruptedException {
+        while (running) {
+            Deadline head = heap.peek();
+            LocalDateTime now = LocalDateTime.now();
+            if (head == null) {
+                wait(Duration.ofMinutes(horizonMinutes).toMillis());
+                continue;
+            }
+            long waitMillis = Duration.between(now, head.at()).toMillis();
+            if (waitMillis > 0) {
+                wait(waitMillis);
+                continue;
+            }
+            List<Long> due = new ArrayList<>();
+            while (!heap.isEmpty() && !heap.peek().at().isAfter(now) && due.size() < CLOSE_BATCH_SIZE) {
+                due.add(heap.poll().postId());
+            }
+            return due;
+        }
+        return List.of();
+    }
+
+    private void close(List<Long> postIds) {
+        if (!tryLock()) {
+            requeue(postIds, LOCK_RETRY_DELAY);
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer closed = transactionTemplate.execute(status -> partyPostRepository.closeExpired(postIds, now));
+            if (closed != null && closed > 0) {
+                catalogVersionService.bump(CatalogVersionService.PARTY);
+                log.info("일행 모집글 자동 마감: {}건", closed);
+            }
+        } catch (RuntimeException e) {
+            requeue(postIds, FAILURE_RETRY_DELAY); // 힙에서 이미 뺐으니 다시 넣지 않으면 다음 시드(최대 30분)까지 열려 있다
+            throw e;
+        } finally {
+            unlock();
+        }
+    }
+
+    private synchronized void requeue(List<Long> postIds, Duration delay) {
+        LocalDateTime retryAt = LocalDateTime.now().plus(delay);
+        postIds.forEach(postId -> heap.add(new Deadline(postId, retryAt)));
+        notifyAll();
+    }
+
+    private void closeOverdue() {
+        if (!tryLock()) {
+            return; // 다른 서버가 하는 중
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer closed = transactionTemplate.execute(status -> partyPostRepository.closeAllExpired(now));
+            if (closed != null && closed > 0) {
+                catalogVersionService.bump(CatalogVersionService.PARTY);
+                log.info("지난 마감 일행 모집글 정리: {}건", closed);
+            }
+        } finally {
+            unlock();
+        }
+    }
+
+    private boolean tryLock() {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeToken, LOCK_TTL));
+        } catch (Exception e) {
+            // Redis 장애 때는 각자 닫는다 (조건부 UPDATE 라 중복돼도 결과는 같음)
+            log.warn("일행 마감 잠금 획득 실패, 잠금 없이 진행", e);
+            return true;
+        }
+    }
+
+    private void unlock() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), nodeToken);
+        } catch (Exception e) {
+            log.warn("일행 마감 잠금 해제 실패 (TTL 로 풀림)", e);
+        }
+    }
+}
@@ -14,9 +14,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +32,9 @@ public class PartyService {
     private final UserRepository userRepository;
     private final ThemeRepository themeRepository;
     private final NotificationService notificationService;
+    private final TrendingThemeService trendingThemeService;
+    private final CatalogVersionService catalogVersionService;
+    private final PartyDeadlineScheduler partyDeadlineScheduler;
 
     @Transactional
     public Long createPartyPost(Long writerId, Long themeId, PartyPostRequest request) {
@@ -48,12 +54,17 @@ public class PartyService {
                 .currentParticipants(1) // 글쓴이 포함
                 .build();
 
-        return postRepository.save(post).getId();
+        Long postId = postRepository.save(post).getId();
+        partyDeadlineScheduler.track(postId, post.getDeadline()); // 마감 시각에 자동 마감
+        trendingThemeService.record(themeId, TrendingThemeService.Signal.PARTY);
+        catalogVersionService.bump(CatalogVersionService.PARTY);
+        return postId;
     }
 
     @Transactional
     public void joinParty(Long postId, Long userId) {
-        PartyPost partyPost = postRepository.findById(postId)
+        // 같은 글의 신청/승인/취소가 인원과 대기열을 동시에 보지 않도록 글 행을 잠근다
+        PartyPost partyPost = postRepository.findByIdForUpdate(postId)
                 .orElseThrow(() -> new NotFoundException("모집글 없음"));
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("유저 없음"));
@@ -63,7 +74,9 @@ public class PartyService {
 //            throw new IllegalStateException("작성자는 자신의 모집글에 신청할 수 없습니다.");
 //        }
 
-        if (partyPost.isClosed() || partyPost.getCurrentParticipants() >= partyPost.getMaxParticipants()) {
+        // 마감 시각이 지난 글은 스케줄러가 닫기 전이라도 받지 않는다. 정원이 차서 닫힌 글은 대기열로 받는다
+        boolean isFull = partyPost.getCurrentParticipants() >= partyPost.getMaxParticipants();
+        if (partyPost.isExpired(LocalDateTime.now()) || (partyPost.isClosed() && !isFull)) {
             throw new PartyClosedException();
         }
 
@@ -71,14 +84,21 @@ public class PartyService {
             throw new AlreadyJoinedException();
         }
 
+        // 먼저 기다리는 사람이 있으면 자리가 있어도 새치기하지 않고 뒤에 선다
+        boolean isWaiting = isFull || joinRepository.existsByPartyPostIdAndStatus(postId, PartyJoin.JoinStatus.WAITING);
+
         PartyJoin partyJoin = PartyJoin.builder()
                 .partyPost(partyPost)
                 .user(user)
-                .status(PartyJoin.JoinStatus.PENDING)
+                .status(isWaiting ? PartyJoin.JoinStatus.WAITING : PartyJoin.JoinStatus.PENDING)
                 .build();
 
         joinRepository.save(partyJoin);
 
+        if (isWaiting) {
+            return; // 호스트 알림은 대기열에서 접수로 올라갈 때 보낸다
+        }
+
         // 호스트에게 알림 보내기
         notificationService.notify(
                 partyPost.getWriter(),                     // 알림 받는 사람 (호스트)
@@ -89,14 +109,23 @@ public class PartyService {
         );
     }
 
-    @Transactional
+    // READ_COMMITTED: 잠금 전에 글 id 를 읽어도 스냅샷이 고정되지 않아서, 잠금 뒤 읽는 신청/대기열이 최신 커밋 기준이 된다
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void updateJoinStatus(Long joinId, String statusStr) {
+        PartyJoin.JoinStatus newStatus = parseStatus(statusStr);
+
+        // 글 행 잠금을 잡은 뒤에 신청을 읽어야 같은 신청을 동시에 승인해도 둘 다 PENDING 으로 보지 않는다
+        Long postId = joinRepository.findPostIdById(joinId)
+                .orElseThrow(() -> new NotFoundException("신청 내역을 찾을 수 없습니다."));
+        PartyPost post = postRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> new NotFoundException("모집글 없음"));
         PartyJoin join = joinRepository.findById(joinId)
                 .orElseThrow(() -> new NotFoundException("신청 내역을 찾을 수 없습니다."));
-
-        PartyJoin.JoinStatus newStatus = parseStatus(statusStr);
         PartyJoin.JoinStatus currentStatus = join.getStatus();
-        PartyPost post = join.getPartyPost();
+        // 대기자는 자리가 났을 때 promoteWaiters 가 신청 순서대로만 올린다 (호스트가 바로 승인하면 앞 순서를 새치기함)
+        if (currentStatus == PartyJoin.JoinStatus.WAITING) {
+            throw new IllegalStateException("대기 중인 신청은 순서가 되면 접수로 바뀐 뒤에 처리할 수 있습니다.");
+        }
 
         // 승인 → 취소(거절) 로 바뀔 때 인원 감소
         if (currentStatus == PartyJoin.JoinStatus.APPROVED && newStatus != PartyJoin.JoinStatus.APPROVED) {
@@ -112,6 +141,8 @@ public class PartyService {
         }
 
         join.setStatus(newStatus);
+        promoteWaiters(post); // 승인 취소/거절로 자리가 났으면 대기자를 올린다
+        catalogVersionService.bump(CatalogVersionService.PARTY); // 참여 인원/마감 여부 변경
 
         // 신청자에게 알림 보내기
         if (newStatus == PartyJoin.JoinStatus.APPROVED) {
@@ -134,22 +165,31 @@ public class PartyService {
     }
 
     private PartyJoin.JoinStatus parseStatus(String statusStr) {
+        PartyJoin.JoinStatus status;
         try {
-            return PartyJoin.JoinStatus.valueOf(statusStr.toUpperCase());
+            status = PartyJoin.JoinStatus.valueOf(statusStr.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("유효하지 않은 상태입니다: " + statusStr);
         }
+        // 대기열은 정원이 찼을 때 신청 순서로만 들어간다 (호스트가 넣으면 순서가 꼬이고 바로 다시 승격될 수 있음)
+        if (status == PartyJoin.JoinStatus.WAITING) {
+            throw new IllegalArgumentException("유효하지 않은 상태입니다: " + statusStr);
+        }
+        return status;
     }
 
 
     @Transactional
     public void cancelJoin(Long postId, Long userId) {
+        // 0) 인원 감소와 대기자 승격을 한 번에 하도록 글 행 잠금
+        PartyPost post = postRepository.findByIdForUpdate(postId)
+                .orElseThrow(() -> new NotFoundException("모집글 없음"));
+
         // 1) PartyJoin 찾기
         PartyJoin join = joinRepository.findByPartyPostIdAndUserId(postId, userId)
                 .orElseThrow(() -> new NotFoundException("신청 내역 없음"));
 
         // 2) 현재 상태가 APPROVED(승인)였다면 파티 인원 감소
-        PartyPost post = join.getPartyPost();
         if (join.getStatus() == PartyJoin.JoinStatus.APPROVED) {
             // 파티 인원 1 감소
             post.decreaseParticipantCount();
@@ -158,6 +198,44 @@ public class PartyService {
         // 3) DB에서 해당 PartyJoin 삭제(물리적 제거)
         //    혹은 'CANCELED' 같은 상태로 업데이트해도 됨
         joinRepository.delete(join);
+
+        // 4) 자리가 났으면 대기열 맨 앞 사람을 접수로 올림
+        promoteWaiters(post);
+        catalogVersionService.bump(CatalogVersionService.PARTY);
+    }
+
+    // 빈자리(정원 - 승인 인원)가 승인 대기(PENDING) 수보다 많으면 그만큼 대기열 앞에서부터 PENDING 으로 올리고 알린다.
+    // 호스트 승인 절차는 그대로 거친다. 글 행 잠금을 잡은 트랜잭션 안에서만 부른다
+    private void promoteWaiters(PartyPost post) {
+        if (post.isExpired(LocalDateTime.now())) {
+            return;
+        }
+        long openSeats = post.getMaxParticipants() - post.getCurrentParticipants()
+                - joinRepository.countByPartyPostIdAndStatus(post.getId(), PartyJoin.JoinStatus.PENDING);
+
+        for (; openSeats > 0; openSeats--) {
+            PartyJoin next = joinRepository.findFirstByPartyPostIdAndStatusOrderByRegDateAscIdAsc(
+                    post.getId(), PartyJoin.JoinStatus.WAITING).orElse(null);
+            if (next == null) {
+                return;
+            }
+            next.setStatus(PartyJoin.JoinStatus.PENDING);
+
+            notificationService.notify(
+                    next.getUser(),                        // 대기자
+                    post.getWriter(),
+                    Notification.NotificationType.WAITLIST_PROMOTED,
+                    post.getTitle() + " 파티에 자리가 나서 대기 중이던 참여 신청이 접수되었습니다.",
+                    post
+            );
+            notificationService.notify(
+                    post.getWriter(),                      // 호스트
+                    next.getUser(),
+                    Notification.NotificationType.JOIN_REQUEST,
+                    next.getUser().getNickName() + "님의 대기 신청이 참여 신청으로 접수되었습니다.",
+                    post
+            );
+        }
     }
 
     @Transactional
@@ -174,6 +252,7 @@ public class PartyService {
 
         notificationRepository.deleteByRelatedPostId(postId);
         postRepository.delete(post);
+        catalogVersionService.bump(CatalogVersionService.PARTY);
     }
 
     public List<PartyPostDto> getPartyPostsPaged(int page, int size, LocalDate deadline, Boolean isClosed) {
@@ -184,6 +263,36 @@ public class PartyService {
                 .collect(Collectors.toList());
     }
 
+    // 목록 ETag: 모집글 버전 + 테마 버전 (목록에 테마 제목/이미지/지역이 같이 나감)
+    public String getPartyListETag() {
+        Long partyVersion = catalogVersionService.current(CatalogVersionService.PARTY);
+        Long themeVersion = catalogVersionService.current(CatalogVersionService.THEME);
+        if (partyVersion == null || themeVersion == null) {
+            return null;
+        }
+        return "parties-v" + partyVersion + "-t" + themeVersion;
+    }
+
+    // 상세 ETag: 모집글/작성자/테마 수정 시각 + 요청한 유저의 신청 상태
+    @Transactional(readOnly = true)
+    public String getPartyPostDetailETag(Long postId, User user) {
+        PartyPost post = postRepository.findById(postId).orElse(null);
+        if (post == null) {
+            return null;
+        }
+        PartyJoin join = joinRepository.findByPartyPostAndUser(post, user).orElse(null);
+
+        return "party-" + postId
+                + "-" + epochMillis(post.getModDate())
+                + "-" + epochMillis(post.getWriter().getModDate())
+                + "-" + epochMillis(post.getTheme().getModDate())
+                + "-" + (join != null ? join.getStatus().name() + "-" + epochMillis(join.getModDate()) : "NONE");
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : 0L;
+    }
+
     public PartyPostDetailDto getPartyPostDetail(Long postId, User user) {
         PartyPost post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("일행 글 없음"));
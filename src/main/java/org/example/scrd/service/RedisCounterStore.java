@@ -0,0 +1,131 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CounterStore Redis 구현.
+ * counter:{key}:delta (HASH id → 증감분), counter:{key}:flushing (반영 중인 HASH), counter:{key}:flushing:batch (배치 id),
+ * counter:{key}:flushing:applied (DB 에 반영된 배치 id)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisCounterStore implements CounterStore {
+
+    // KEYS[1]=delta, KEYS[2]=flushing, KEYS[3]=batch / ARGV[1]=새 배치 id
+    // 반영 중인 배치가 남아 있으면 그걸 돌려주고, 아니면 delta 를 flushing 으로 RENAME. 결과는 "1:id"(이어서) / "0:id"(새로)
+    private static final RedisScript<String> BEGIN_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "  local batch = redis.call('GET', KEYS[3]) " +
+            "  if not batch then batch = ARGV[1]; redis.call('SET', KEYS[3], batch) end " +
+            "  return '1:' .. batch " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]) " +
+            "redis.call('SET', KEYS[3], ARGV[1]) " +
+            "return '0:' .. ARGV[1]",
+            String.class);
+
+    // KEYS[1]=batch, KEYS[2]=applied / ARGV[1]=배치 id
+    private static final RedisScript<Long> MARK_APPLIED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[2], ARGV[1]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=flushing, KEYS[2]=batch, KEYS[3]=applied / ARGV[1]=배치 id
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[2]) == ARGV[1] then " +
+            "  redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // KEYS[1]=delta, KEYS[2]=flushing, KEYS[3]=batch, KEYS[4]=applied / ARGV[1]=id
+    // 반영 중 배치가 이미 DB 에 들어갔으면 그 칸은 DB 값에 포함돼 있으니 세지 않는다
+    private static final RedisScript<Long> PENDING_SCRIPT = new DefaultRedisScript<>(
+            "local pending = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) or 0 " +
+            "local batch = redis.call('GET', KEYS[3]) " +
+            "if not batch or batch ~= redis.call('GET', KEYS[4]) then " +
+            "  pending = pending + (tonumber(redis.call('HGET', KEYS[2], ARGV[1])) or 0) " +
+            "end " +
+            "return pending",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void increment(Counter counter, Long id, long delta) {
+        redisTemplate.opsForHash().increment(deltaKey(counter), String.valueOf(id), delta);
+    }
+
+    @Override
+    public long pending(Counter counter, Long id) {
+        Long pending = redisTemplate.execute(PENDING_SCRIPT,
+                List.of(deltaKey(counter), flushingKey(counter), batchKey(counter), appliedKey(counter)), String.valueOf(id));
+        return pending != null ? pending : 0L;
+    }
+
+    @Override
+    public Set<Long> pendingIds(Counter counter) {
+        Set<Long> ids = new HashSet<>();
+        for (String key : List.of(deltaKey(counter), flushingKey(counter))) {
+            for (Object field : redisTemplate.opsForHash().keys(key)) {
+                ids.add(Long.valueOf(field.toString()));
+            }
+        }
+        return ids;
+    }
+
+    @Override
+    public Batch beginFlush(Counter counter, String newBatchId) {
+        String result = redisTemplate.execute(BEGIN_FLUSH_SCRIPT,
+                List.of(deltaKey(counter), flushingKey(counter), batchKey(counter)), newBatchId);
+        if (result == null) {
+            return null;
+        }
+        Map<Long, Long> deltas = new HashMap<>();
+        redisTemplate.opsForHash().entries(flushingKey(counter)).forEach((field, value) ->
+                deltas.put(Long.valueOf(field.toString()), Long.valueOf(value.toString())));
+        return new Batch(result.substring(2), deltas, result.startsWith("1:"));
+    }
+
+    @Override
+    public void markApplied(Counter counter, String batchId) {
+        redisTemplate.execute(MARK_APPLIED_SCRIPT, List.of(batchKey(counter), appliedKey(counter)), batchId);
+    }
+
+    @Override
+    public void completeFlush(Counter counter, String batchId) {
+        redisTemplate.execute(COMPLETE_FLUSH_SCRIPT,
+                List.of(flushingKey(counter), batchKey(counter), appliedKey(counter)), batchId);
+    }
+
+    private static String deltaKey(Counter counter) {
+        return "counter:" + counter.getKey() + ":delta";
+    }
+
+    private static String flushingKey(Counter counter) {
+        return "counter:" + counter.getKey() + ":flushing";
+    }
+
+    private static String batchKey(Counter counter) {
+        return "counter:" + counter.getKey() + ":flushing:batch";
+    }
+
+    private static String appliedKey(Counter counter) {
+        return "counter:" + counter.getKey() + ":flushing:applied";
+    }
+}
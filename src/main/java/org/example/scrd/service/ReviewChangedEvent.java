@@ -0,0 +1,37 @@
+package org.example.scrd.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.scrd.domain.Review;
+
+/**
+ * 리뷰 작성/삭제 이벤트. 트랜잭션 커밋 후에 처리해야 하는 부가 작업(검색 인덱스 등)이 구독한다.
+ * 클리어 통계는 리뷰를 다시 읽지 않고 이 값(성공 여부/힌트 수/클리어 시간)으로 증감한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReviewChangedEvent {
+    public enum Type { ADDED, DELETED }
+
+    private Type type;
+    private Long reviewId;
+    private Long userId;
+    private Long themeId;
+    private String text;
+    private Boolean isSuccessful;
+    private Integer hintUsageCount;
+    private String clearTime;
+
+    public static ReviewChangedEvent added(Review review) {
+        return of(Type.ADDED, review);
+    }
+
+    public static ReviewChangedEvent deleted(Review review) {
+        return of(Type.DELETED, review);
+    }
+
+    private static ReviewChangedEvent of(Type type, Review review) {
+        return new ReviewChangedEvent(type, review.getId(), review.getUser().getId(), review.getTheme().getId(),
+                review.getText(), review.getIsSuccessful(), review.getHintUsageCount(), review.getClearTime());
+    }
+}
@@ -0,0 +1,288 @@
+package org.example.scrd.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.example.scrd.repo.ReviewRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 리뷰 본문 전문 검색 인덱스 (Lucene, 로컬 디스크).
+ * LIKE '%키워드%' 풀스캔 대신 nori 형태소 분석기로 색인하고 BM25 점수순으로 리뷰 id 를 돌려준다.
+ *
+ * 리뷰 작성/삭제는 커밋 후 이벤트로 바로 반영하고 (검색에는 곧바로 보임),
+ * 디스크 커밋은 주기적으로 한다. 서버가 죽으면 마지막 커밋 이후 변경은 reindex 로 복구.
+ * 인덱스는 서버마다 따로 있어서 변경을 Redis pub/sub 으로 다른 서버에도 보낸다 (자기가 보낸 메시지는 무시).
+ *
+ * reindex 는 deleteAll 부터 하니까, 끝날 때까지는 검색이 이전 시점 인덱스를 보도록 refresh/commit 을 막는다.
+ */
+@Component
+@Slf4j
+public class ReviewSearchIndex {
+    private static final String ID = "id";
+    private static final String USER_ID = "userId";
+    private static final String THEME_ID = "themeId";
+    private static final String TEXT = "text";
+    private static final int REINDEX_BATCH_SIZE = 500;
+    private static final String CHANNEL = "review:search";
+
+    private final ReviewRepository reviewRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Path indexDir;
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final String nodeId = UUID.randomUUID().toString();
+    // reindex 가 잡고 있는 동안에는 refresh/commit 을 건너뛴다 (반쯤 만든 인덱스가 보이거나 디스크에 남지 않도록)
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private Directory directory;
+    // 재색인 실패 시 rollbackRebuild 에서 새로 연다
+    private volatile IndexWriter writer;
+    private volatile SearcherManager searcherManager;
+
+    public ReviewSearchIndex(ReviewRepository reviewRepository,
+                             StringRedisTemplate redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             ObjectMapper objectMapper,
+                             @Value("${custom.review-search.index-dir:./data/review-index}") String indexDir) {
+        this.reviewRepository = reviewRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.indexDir = Path.of(indexDir);
+    }
+
+    // 다른 서버에 보내는 변경 내용 (검색 인덱스에 필요한 값만)
+    record IndexMessage(String nodeId, ReviewChangedEvent.Type type, Long reviewId, Long userId, Long themeId, String text) {
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(indexDir);
+        directory = FSDirectory.open(indexDir);
+        // 기본 Similarity 가 BM25
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+        listenerContainer.addMessageListener(
+                (message, pattern) -> onIndexMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+    }
+
+    // 처음 띄운 서버(인덱스 디렉터리가 비어 있음)면 MySQL 기준으로 만든다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfEmpty() {
+        if (writer.getDocStats().numDocs == 0 && reviewRepository.count() > 0) {
+            reindex();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        IndexMessage message = new IndexMessage(nodeId, event.getType(), event.getReviewId(),
+                event.getUserId(), event.getThemeId(), event.getText());
+        apply(message);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 다른 서버는 reindex 전까지 이 변경을 못 본다
+            log.warn("리뷰 검색 인덱스 변경 발행 실패 reviewId={} type={}", event.getReviewId(), event.getType(), e);
+        }
+    }
+
+    // open() 에서 등록한 pub/sub 리스너에서 호출
+    void onIndexMessage(String payload) {
+        try {
+            IndexMessage message = objectMapper.readValue(payload, IndexMessage.class);
+            if (!nodeId.equals(message.nodeId())) {
+                apply(message);
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("리뷰 검색 인덱스 메시지 해석 실패 payload={}", payload, e);
+        }
+    }
+
+    private void apply(IndexMessage message) {
+        try {
+            Term idTerm = new Term(ID, message.reviewId().toString());
+            if (message.type() == ReviewChangedEvent.Type.ADDED) {
+                writer.updateDocument(idTerm, toDocument(message.reviewId(), message.userId(), message.themeId(), message.text()));
+            } else {
+                writer.deleteDocuments(idTerm);
+            }
+            // reindex 중이면 건너뛴다. 변경은 writer 에 들어가 있고 reindex 끝의 refresh 에서 보인다
+            if (rebuildLock.tryLock()) {
+                try {
+                    searcherManager.maybeRefresh();
+                } finally {
+                    rebuildLock.unlock();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 검색 인덱스 실패가 리뷰 작성/삭제를 막으면 안 된다 (reindex 로 복구).
+            // 재색인 롤백으로 writer 가 바뀌는 순간에 들어온 변경은 닫힌 writer 예외가 날 수 있다
+            log.warn("리뷰 검색 인덱스 반영 실패 reviewId={} type={}", message.reviewId(), message.type(), e);
+        }
+    }
+
+    /**
+     * @return BM25 점수 높은 순 리뷰 id. 키워드가 분석 후 비어 있으면 (조사만 있는 경우 등) 빈 목록
+     */
+    public List<Long> search(String keyword, Long userId, Long themeId, int limit) {
+        Query textQuery = new QueryBuilder(analyzer).createBooleanQuery(TEXT, keyword);
+        if (textQuery == null) {
+            return List.of();
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(textQuery, BooleanClause.Occur.MUST);
+        if (userId != null) {
+            query.add(new TermQuery(new Term(USER_ID, userId.toString())), BooleanClause.Occur.FILTER);
+        }
+        if (themeId != null) {
+            query.add(new TermQuery(new Term(THEME_ID, themeId.toString())), BooleanClause.Occur.FILTER);
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query.build(), limit);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    ids.add(Long.valueOf(storedFields.document(scoreDoc.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 전체 재색인. MySQL 에서 id 순으로 REINDEX_BATCH_SIZE 씩 (엔티티가 아니라 필요한 컬럼만) 읽는다.
+     * 끝날 때까지 검색은 시작 전 시점의 인덱스를 보고, 중간에 실패하면 디스크에는 이전 커밋이 남는다.
+     * @return 색인한 리뷰 수
+     */
+    public int reindex() {
+        rebuildLock.lock();
+        try {
+            writer.deleteAll();
+            int count = 0;
+            long afterId = 0L;
+            while (true) {
+                List<ReviewRepository.ReviewSearchRow> rows =
+                        reviewRepository.findSearchRowsAfter(afterId, PageRequest.ofSize(REINDEX_BATCH_SIZE));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                for (ReviewRepository.ReviewSearchRow row : rows) {
+                    // 재색인 중에 커밋된 리뷰 이벤트가 같은 id 를 먼저 넣었을 수 있어서 add 가 아니라 update (중복 문서 방지)
+                    writer.updateDocument(new Term(ID, row.getId().toString()),
+                            toDocument(row.getId(), row.getUserId(), row.getThemeId(), row.getText()));
+                }
+                count += rows.size();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            log.info("리뷰 검색 인덱스 재구성 완료: {}건", count);
+            return count;
+        } catch (IOException e) {
+            rollbackRebuild();
+            throw new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            rollbackRebuild();
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // deleteAll 이후 못 끝낸 재색인을 버린다. rollback 은 writer 를 닫으니까 마지막 커밋에서 다시 연다
+    private void rollbackRebuild() {
+        try {
+            writer.rollback();
+            writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+            SearcherManager previous = searcherManager;
+            searcherManager = new SearcherManager(writer, null);
+            previous.close();
+        } catch (IOException e) {
+            log.error("리뷰 검색 인덱스 재색인 롤백 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.review-search.commit-interval-ms:30000}",
+            initialDelayString = "${custom.review-search.commit-interval-ms:30000}")
+    public void commit() {
+        if (!rebuildLock.tryLock()) {
+            return; // 재색인 중인 인덱스를 디스크에 남기지 않는다 (끝나면 reindex 가 커밋)
+        }
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            log.warn("리뷰 검색 인덱스 커밋 실패", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close(); // 닫을 때 커밋됨
+        directory.close();
+    }
+
+    private static Document toDocument(Long reviewId, Long userId, Long themeId, String text) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, reviewId.toString(), Field.Store.YES));
+        doc.add(new StringField(USER_ID, userId.toString(), Field.Store.NO));
+        doc.add(new StringField(THEME_ID, themeId.toString(), Field.Store.NO));
+        if (text != null) {
+            doc.add(new TextField(TEXT, text, Field.Store.NO));
+        }
+        return doc;
+    }
+}
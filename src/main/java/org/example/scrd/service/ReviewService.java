@@ -3,52 +3,70 @@ package org.example.scrd.service;
 import lombok.RequiredArgsConstructor;
 import org.example.scrd.domain.*;
 import org.example.scrd.dto.MyReviewResponseDto;
+import org.example.scrd.dto.MyReviewRow;
+import org.example.scrd.dto.ReviewCursor;
 import org.example.scrd.dto.ReviewCreateRequestDto;
 import org.example.scrd.dto.ThemeReviewResponseDto;
+import org.example.scrd.dto.response.CursorPageResponse;
 import org.example.scrd.exception.NotFoundException;
 import org.example.scrd.exception.UnauthorizedAccessException;
 import org.example.scrd.repo.*;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int REVIEW_POINT = 500; // 리뷰 작성 시 포인트
+
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
-    private final ThemeRepository themeRepository;
     private final TagRepository tagRepository;
     private final ReviewTagMapRepository reviewTagMapRepository;
+    private final ThemeTagCountRepository themeTagCountRepository;
+    private final TrendingThemeService trendingThemeService;
+    private final CatalogVersionService catalogVersionService;
+    private final ReviewSearchIndex reviewSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CounterService counterService;
 
     @Transactional
     public void addReview(ReviewCreateRequestDto dto, Long userId, Theme theme, List<Long> tagIds) {
-        // 기존 리뷰 저장 로직 유지
-        Review review = Review.addReviewFrom(
-                userRepository.findById(userId)
-                        .orElseThrow(() -> new NotFoundException("유저가 존재하지 않습니다.")),
-                dto,
-                theme
-        );
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("유저가 존재하지 않습니다."));
+
+        Review review = Review.addReviewFrom(user, dto, theme);
         reviewRepository.save(review);
+        eventPublisher.publishEvent(ReviewChangedEvent.added(review)); // 커밋 후 검색 인덱스/테마 평점·클리어 통계 재계산
 
-        theme.increaseReviewCount();
-        themeRepository.save(theme);
+        // 리뷰 수/포인트/리뷰 횟수는 커밋 후 Redis 에 쌓고 CounterService 가 주기적으로 반영 (테마/유저 행을 잡지 않음)
+        counterService.increment(Counter.THEME_REVIEW_COUNT, theme.getId(), 1);
+        counterService.increment(Counter.USER_POINT, user.getId(), REVIEW_POINT);
+        counterService.increment(Counter.USER_REVIEW_COUNT, user.getId(), 1);
 
-        updateThemeRating(review.getTheme().getId());
+        trendingThemeService.record(theme.getId(), TrendingThemeService.Signal.REVIEW);
+        catalogVersionService.bump(CatalogVersionService.THEME);
 
         if (tagIds != null && !tagIds.isEmpty()) {
-            for (Long tagId : tagIds) {
-                Tag tag = tagRepository.findById(tagId)
-                        .orElseThrow(() -> new NotFoundException("해당 태그가 존재하지 않습니다."));
-                ReviewTagMap tagMap = ReviewTagMap.builder()
-                        .review(review)
-                        .tag(tag)
-                        .build();
-                reviewTagMapRepository.save(tagMap);
+            // 태그 조회 1번 + 매핑 insert 배치 1번 (태그마다 조회/insert 하지 않도록)
+            Set<Long> uniqueTagIds = new LinkedHashSet<>(tagIds);
+            List<Tag> tags = tagRepository.findAllById(uniqueTagIds);
+            if (tags.size() != uniqueTagIds.size()) {
+                throw new NotFoundException("해당 태그가 존재하지 않습니다.");
             }
+            reviewTagMapRepository.saveAll(tags.stream()
+                    .map(tag -> ReviewTagMap.builder().review(review).tag(tag).build())
+                    .toList());
+            themeTagCountRepository.increment(theme.getId(), uniqueTagIds); // 테마별 태그 집계 +1
         }
     }
 
@@ -59,6 +77,59 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 내가 쓴 리뷰 커서 페이지 (최신순). 리뷰 + 테마 컬럼 프로젝션 1번, 태그 이름 1번.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MyReviewResponseDto> getReviewPageByUser(User user, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<MyReviewRow> rows = reviewRepository.findMyReviewPage(user.getId(), ReviewCursor.decode(cursor), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+        Map<Long, List<String>> tagNames = findTagNames(rows.stream().map(MyReviewRow::getId).toList());
+
+        List<MyReviewResponseDto> content = rows.stream()
+                .map(row -> MyReviewResponseDto.from(row, user, tagNames.getOrDefault(row.getId(), List.of())))
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            MyReviewRow last = rows.get(rows.size() - 1);
+            nextCursor = new ReviewCursor(last.getRegDate(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+
+    /**
+     * 리뷰 본문 검색 (검색 인덱스에서 BM25 순 id → 리뷰 조회 후 같은 순서로)
+     */
+    @Transactional(readOnly = true)
+    public List<ThemeReviewResponseDto> searchReviews(String keyword, Long userId, Long themeId, int size) {
+        List<Long> ids = reviewSearchIndex.search(keyword, userId, themeId, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Review> reviews = reviewRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Review::getId, review -> review));
+        Map<Long, List<String>> tagNames = findTagNames(ids);
+
+        return ids.stream()
+                .map(reviews::get)
+                .filter(Objects::nonNull) // 인덱스 반영 전에 삭제된 리뷰
+                .map(review -> ThemeReviewResponseDto.from(review, tagNames.getOrDefault(review.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    // 검색 인덱스 전체 재구성 (admin)
+    public int reindexSearch(User user) {
+        if (user.getRole() != Role.ROLE_ADMIN) {
+            throw new UnauthorizedAccessException();
+        }
+        return reviewSearchIndex.reindex();
+    }
+
     public List<ThemeReviewResponseDto> getReviewListByTheme(Long themeId) {
         return reviewRepository.findByThemeId(themeId)
                 .stream()
@@ -66,6 +137,42 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 테마 리뷰 커서 페이지 (최신순). 페이지 크기와 상관없이 쿼리 2번:
+     * 리뷰 + 작성자 fetch join 1번, 그 페이지 리뷰들의 태그 이름 1번.
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ThemeReviewResponseDto> getReviewPageByTheme(Long themeId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Review> reviews = reviewRepository.findThemeReviewPage(themeId, ReviewCursor.decode(cursor), pageSize + 1);
+
+        boolean hasNext = reviews.size() > pageSize;
+        if (hasNext) {
+            reviews = reviews.subList(0, pageSize);
+        }
+        Map<Long, List<String>> tagNames = findTagNames(reviews.stream().map(Review::getId).toList());
+
+        List<ThemeReviewResponseDto> content = reviews.stream()
+                .map(review -> ThemeReviewResponseDto.from(review, tagNames.getOrDefault(review.getId(), List.of())))
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            Review last = reviews.get(reviews.size() - 1);
+            nextCursor = new ReviewCursor(last.getRegDate(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(content, nextCursor, hasNext);
+    }
+
+    // 리뷰 id → 태그 이름들 (한 번의 쿼리)
+    private Map<Long, List<String>> findTagNames(List<Long> reviewIds) {
+        if (reviewIds.isEmpty()) {
+            return Map.of();
+        }
+        return reviewTagMapRepository.findTagNamesByReviewIds(reviewIds).stream()
+                .collect(Collectors.groupingBy(ReviewTagMapRepository.ReviewTagName::getReviewId,
+                        Collectors.mapping(ReviewTagMapRepository.ReviewTagName::getTagName, Collectors.toList())));
+    }
+
     @Transactional
     public void deleteReview(Long reviewId, User user) {
         Review review = reviewRepository.findById(reviewId)
@@ -78,31 +185,19 @@ public class ReviewService {
             throw new UnauthorizedAccessException();
         }
 
-        // 리뷰-태그 연결 삭제
-        reviewTagMapRepository.deleteAllByReview(review);
-
-        // 테마의 리뷰 카운트 감소
         Theme theme = review.getTheme();
-        reviewRepository.delete(review);
-
-        theme.decreaseReviewCount();
-        themeRepository.save(theme);
+        counterService.increment(Counter.THEME_REVIEW_COUNT, theme.getId(), -1);
 
-        updateThemeRating(theme.getId()); // 삭제 후 평점 갱신
-    }
-
-    @Transactional
-    public void updateThemeRating(Long themeId) {
-        float starsAvg = reviewRepository.getAverageScoreByThemeId(themeId);
-        float horrorAvg = reviewRepository.getAverageHorrorByThemeId(themeId);
-        float activityAvg = reviewRepository.getAverageActivityByThemeId(themeId);
-        float levelAvg = reviewRepository.getAverageLevelByThemeId(themeId);
-
-        Theme theme = themeRepository.findById(themeId)
-                .orElseThrow(() -> new IllegalArgumentException("테마 없음"));
+        // 리뷰-태그 연결 삭제 + 테마별 태그 집계 -1
+        List<Long> tagIds = reviewTagMapRepository.findTagIdsByReview(review);
+        reviewTagMapRepository.deleteAllByReview(review);
+        if (!tagIds.isEmpty()) {
+            themeTagCountRepository.decrement(review.getTheme().getId(), tagIds);
+        }
 
-        theme.updateRatingAndFlags(starsAvg, levelAvg, horrorAvg, activityAvg);
-        themeRepository.save(theme);
+        reviewRepository.delete(review);
+        eventPublisher.publishEvent(ReviewChangedEvent.deleted(review));
+        catalogVersionService.bump(CatalogVersionService.THEME);
     }
 
     public long countReviewsByUser(Long userId) {
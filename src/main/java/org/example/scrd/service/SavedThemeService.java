@@ -5,13 +5,13 @@ import org.example.scrd.domain.SavedTheme;
 import org.example.scrd.domain.Theme;
 import org.example.scrd.domain.User;
 import org.example.scrd.dto.MobileThemeDto;
+import org.example.scrd.dto.ThemeCard;
 import org.example.scrd.dto.response.SavedThemeListResponse;
 import org.example.scrd.dto.response.SavedThemeResponse;
 import org.example.scrd.exception.NotFoundException;
 import org.example.scrd.repo.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.example.scrd.domain.ThemeDocument;
 
 
 import java.time.LocalDate;
@@ -24,7 +24,9 @@ public class SavedThemeService {
     private final SavedThemeRepository savedThemeRepository;
     private final UserRepository userRepository;
     private final ThemeRepository themeRepository;
-    private final ThemeMongoRepository themeMongoRepository;
+    private final ThemeAvailabilityService themeAvailabilityService;
+    private final SlotWatchService slotWatchService;
+    private final TrendingThemeService trendingThemeService;
 
     @Transactional
     public SavedThemeResponse savedUserTheme(Long themeId, Long userId){
@@ -33,47 +35,47 @@ public class SavedThemeService {
         SavedThemeResponse savedThemeResponse = new SavedThemeResponse();
         if(user.getLikes().stream().anyMatch(like -> like.getTheme().equals(theme))){ // 유저가 이미 이 테마를 좋아요한 상태라면 SavedTheme 삭제 (좋아요 취소 → liked = false 로 응답
             savedThemeRepository.deleteByUserAndTheme(user,theme);
+            slotWatchService.unwatch(themeId, userId);
             savedThemeResponse.setSaved(false);
         } else {
             savedThemeRepository.save(SavedTheme.builder().theme(theme).user(user).build()); // 그렇지 않으면: → SavedTheme 새로 저장 (좋아요 추가) liked = true 로 응답
+            slotWatchService.watch(themeId, userId); // 빈자리 알림 구독
+            trendingThemeService.record(themeId, TrendingThemeService.Signal.SAVE);
             savedThemeResponse.setSaved(true);
         }
         return savedThemeResponse;
     }
     @Transactional(readOnly = true)
     public List<SavedThemeListResponse> getSavedThemeList(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("해당 유저가 존재하지 않습니다."));
-
-        List<SavedTheme> savedThemes = savedThemeRepository.findByUser(user);
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("해당 유저가 존재하지 않습니다.");
+        }
 
-        return savedThemes.stream()
-                .map(savedTheme -> SavedThemeListResponse.builder()
-                        .themeId(savedTheme.getTheme().getId())
-                        .title(savedTheme.getTheme().getTitle())
-                        .description(savedTheme.getTheme().getDescription())
-                        .image(savedTheme.getTheme().getImage())
-                        .brand(savedTheme.getTheme().getBrand())
-                        .branch(savedTheme.getTheme().getBranch())
+        // 목록에는 description 을 싣지 않는다 (TEXT 컬럼 조회 생략)
+        return themeRepository.findSavedThemeCardsByUserId(userId).stream()
+                .map(card -> SavedThemeListResponse.builder()
+                        .themeId(card.getId())
+                        .title(card.getTitle())
+                        .image(card.getImage())
+                        .brand(card.getBrand())
+                        .branch(card.getBranch())
                         .build())
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public List<MobileThemeDto> getSavedThemesWithAvailableTimes(Long userId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("유저 없음"));
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("유저 없음");
+        }
 
-        List<SavedTheme> savedThemes = savedThemeRepository.findByUser(user);
+        List<ThemeCard> savedThemes = themeRepository.findSavedThemeCardsByUserId(userId);
         String dateString = date.toString();
 
         return savedThemes.stream()
-                .map(savedTheme -> {
-                    Theme theme = savedTheme.getTheme();
-
-                    List<String> availableTimes = themeMongoRepository
-                            .findByThemeIdAndDate(theme.getId().intValue(), dateString)
-                            .map(ThemeDocument::getAvailableTimes)
+                .map(theme -> {
+                    List<String> availableTimes = themeAvailabilityService
+                            .findAvailableTimes(theme.getId(), dateString)
                             .orElse(Collections.emptyList());
 
                     return MobileThemeDto.from(theme, availableTimes);
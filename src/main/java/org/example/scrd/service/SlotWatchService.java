@@ -0,0 +1,181 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.example.scrd.domain.ThemeDocument;
+import org.example.scrd.dto.response.SlotOpenedResponse;
+import org.example.scrd.repo.SavedThemeRepository;
+import org.example.scrd.repo.ThemeMongoRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 저장한 테마의 빈자리(예약 가능 시간) 생김을 감지해서 SSE로 푸시해주는 서비스.
+ * 크롤러가 reservation 컬렉션을 갱신하면 (themeId, date) 별 이전 스냅샷과 비교해서
+ * 새로 생긴 시간대가 있을 때만 그 테마를 저장한 유저들에게 "slot-opened" 이벤트를 보낸다.
+ * 그래서 앱이 /scrd/api/save?date= 를 계속 폴링할 필요가 없다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotWatchService {
+    public static final String SLOT_OPENED_EVENT = "slot-opened";
+
+    private final SavedThemeRepository savedThemeRepository;
+    private final ThemeMongoRepository themeMongoRepository;
+    private final SseEmitterService sseEmitterService;
+
+    // themeId → 저장한 userId 들 (역인덱스)
+    private final Map<Long, Set<Long>> watchersByTheme = new ConcurrentHashMap<>();
+    // "themeId|date" → 마지막으로 본 예약 가능 시간대
+    private final Map<String, Set<String>> snapshots = new ConcurrentHashMap<>();
+    // 마지막으로 처리한 도큐먼트의 updatedAt (크롤러 시계 기준)
+    private volatile Date lastSeenUpdatedAt;
+    // lastSeenUpdatedAt 과 같은 시각으로 이미 처리한 도큐먼트 _id.
+    // 크롤러가 한 번에 여러 도큐먼트를 같은 updatedAt 으로 쓰니까 조회는 >= 로 하고 여기서 중복을 거른다.
+    private final Set<ObjectId> seenAtWatermark = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuildIndex();
+        seedSnapshots();
+    }
+
+    // 저장/취소 시 SavedThemeService 에서 호출
+    public void watch(Long themeId, Long userId) {
+        boolean firstWatcher = !watchersByTheme.containsKey(themeId);
+        watchersByTheme.computeIfAbsent(themeId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        if (firstWatcher) {
+            // 처음 구독되는 테마는 스냅샷이 없어서 다음 갱신이 기준점으로만 쓰이고 알림이 빠진다 → 지금 상태를 미리 잡아둔다
+            seedSnapshots(themeMongoRepository.findByThemeIdInAndDateGreaterThanEqual(
+                    List.of(themeId.intValue()), LocalDate.now().toString()));
+        }
+    }
+
+    public void unwatch(Long themeId, Long userId) {
+        watchersByTheme.computeIfPresent(themeId, (id, users) -> {
+            users.remove(userId);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    // 다른 서버에서 저장/취소된 내역까지 맞추기 위해 주기적으로 DB 기준으로 다시 만든다.
+    @Scheduled(fixedDelayString = "${custom.slot-watch.rebuild-interval-ms:600000}",
+            initialDelayString = "${custom.slot-watch.rebuild-interval-ms:600000}")
+    public void rebuildIndex() {
+        Map<Long, Set<Long>> rebuilt = new HashMap<>();
+        for (SavedThemeRepository.ThemeUserIds row : savedThemeRepository.findAllThemeUserIds()) {
+            rebuilt.computeIfAbsent(row.getThemeId(), id -> ConcurrentHashMap.newKeySet()).add(row.getUserId());
+        }
+        watchersByTheme.keySet().retainAll(rebuilt.keySet());
+        watchersByTheme.putAll(rebuilt);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.slot-watch.interval-ms:30000}",
+            initialDelayString = "${custom.slot-watch.interval-ms:30000}")
+    public void detectOpenedSlots() {
+        List<Integer> themeIds = watchedThemeIds();
+        if (themeIds.isEmpty()) {
+            return;
+        }
+        if (lastSeenUpdatedAt == null) {
+            seedSnapshots();
+            return;
+        }
+
+        List<ThemeDocument> changed = new ArrayList<>(
+                themeMongoRepository.findByThemeIdInAndUpdatedAtGreaterThanEqual(themeIds, lastSeenUpdatedAt));
+        changed.sort(Comparator.comparing(ThemeDocument::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+        for (ThemeDocument doc : changed) {
+            if (!advanceWatermark(doc)) {
+                continue; // 지난 실행에서 이미 처리한 (updatedAt, _id)
+            }
+
+            Set<String> current = doc.getAvailableTimes() != null ? new HashSet<>(doc.getAvailableTimes()) : Set.of();
+            Set<String> previous = snapshots.put(snapshotKey(doc), current);
+            if (previous == null) {
+                continue; // 처음 보는 (themeId, date) 는 기준점으로만 기록
+            }
+
+            List<String> opened = current.stream()
+                    .filter(time -> !previous.contains(time))
+                    .sorted()
+                    .toList();
+            if (!opened.isEmpty()) {
+                publish(doc, opened);
+            }
+        }
+
+        pruneExpiredSnapshots();
+    }
+
+    private void seedSnapshots() {
+        List<Integer> themeIds = watchedThemeIds();
+        if (themeIds.isEmpty()) {
+            return;
+        }
+        seedSnapshots(themeMongoRepository.findByThemeIdInAndDateGreaterThanEqual(themeIds, LocalDate.now().toString()));
+        if (lastSeenUpdatedAt == null) {
+            lastSeenUpdatedAt = new Date();
+        }
+    }
+
+    // 이미 스냅샷이 있는 (themeId, date) 는 건드리지 않는다. 감지 루프가 아직 못 본 변경을 덮어쓰면 알림이 빠지기 때문.
+    // 워터마크는 올리지 않는다: 여기서 본 도큐먼트도 다음 감지에서 다시 읽혀서 스냅샷과 비교될 뿐이다.
+    private void seedSnapshots(List<ThemeDocument> docs) {
+        for (ThemeDocument doc : docs) {
+            snapshots.putIfAbsent(snapshotKey(doc),
+                    doc.getAvailableTimes() != null ? new HashSet<>(doc.getAvailableTimes()) : Set.of());
+        }
+    }
+
+    private void publish(ThemeDocument doc, List<String> opened) {
+        Set<Long> users = watchersByTheme.get(doc.getThemeId().longValue());
+        if (users == null) {
+            return;
+        }
+        SlotOpenedResponse event = new SlotOpenedResponse(
+                doc.getThemeId().longValue(), doc.getTitle(), doc.getDate(), opened);
+        for (Long userId : users) {
+            sseEmitterService.sendEvent(userId, SLOT_OPENED_EVENT, event);
+        }
+        log.debug("빈자리 알림 themeId={} date={} times={} users={}", doc.getThemeId(), doc.getDate(), opened, users.size());
+    }
+
+    private List<Integer> watchedThemeIds() {
+        return watchersByTheme.keySet().stream()
+                .map(Long::intValue)
+                .collect(Collectors.toList());
+    }
+
+    // (updatedAt, _id) 기준으로 처음 보는 도큐먼트면 워터마크를 올리고 true.
+    // changed 는 updatedAt 오름차순이라 워터마크는 뒤로 가지 않는다.
+    private boolean advanceWatermark(ThemeDocument doc) {
+        Date updatedAt = doc.getUpdatedAt();
+        if (updatedAt == null) {
+            return true;
+        }
+        if (lastSeenUpdatedAt == null || updatedAt.after(lastSeenUpdatedAt)) {
+            lastSeenUpdatedAt = updatedAt;
+            seenAtWatermark.clear();
+        }
+        return !updatedAt.equals(lastSeenUpdatedAt) || seenAtWatermark.add(doc.get_id());
+    }
+
+    private void pruneExpiredSnapshots() {
+        String today = LocalDate.now().toString();
+        snapshots.keySet().removeIf(key -> key.substring(key.indexOf('|') + 1).compareTo(today) < 0);
+    }
+
+    private static String snapshotKey(ThemeDocument doc) {
+        return doc.getThemeId() + "|" + doc.getDate();
+    }
+}
@@ -46,6 +46,20 @@ public class SseEmitterService {
         }
     }
 
+    // 이름이 지정된 타입 이벤트 전송 (예: 저장한 테마의 빈자리 알림)
+    public void sendEvent(Long userId, String eventName, Object data) {
+        SseEmitter emitter = emitters.get(userId);
+        if (emitter != null) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(eventName)
+                        .data(data));
+            } catch (IOException e) {
+                emitters.remove(userId);
+            }
+        }
+    }
+
     // ✅ Heartbeat(핑) 전송
     @Scheduled(fixedRate = 90000) // 30초마다 실행 예시
     public void sendHeartbeat() {
@@ -0,0 +1,74 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.config.CacheConfig;
+import org.example.scrd.domain.Theme;
+import org.example.scrd.dto.TagDto;
+import org.example.scrd.dto.ThemeDto;
+import org.example.scrd.repo.TagRepository;
+import org.example.scrd.repo.ThemeRepository;
+import org.example.scrd.repo.ThemeTagCountRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagService {
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final TagRepository tagRepository;
+    private final ThemeRepository themeRepository;
+    private final ThemeTagCountRepository themeTagCountRepository;
+
+    // 리뷰 작성 화면의 태그 선택지
+    @Cacheable(cacheNames = CacheConfig.TAGS, key = "'all'", sync = true)
+    public List<TagDto> getAllTags() {
+        return tagRepository.findAll(Sort.by("id")).stream()
+                .map(TagDto::from)
+                .collect(Collectors.toList());
+    }
+
+    // 태그 X 가 많이 붙은 테마 순 (theme_tag_count 인덱스 범위 스캔 + 테마 id 조회)
+    @Transactional(readOnly = true)
+    public List<ThemeDto> getThemesByTag(Long tagId, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Long> themeIds = themeTagCountRepository.findThemeIdsByTagId(tagId, PageRequest.of(Math.max(page, 0), pageSize));
+        Map<Long, Theme> themes = themeRepository.findAllById(themeIds).stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+
+        return themeIds.stream()
+                .map(themes::get)
+                .filter(Objects::nonNull)
+                .map(ThemeDto::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // 집계 테이블을 새로 만든 직후 한 번, 기존 리뷰 태그로 채운다.
+    // 다른 서버와 동시에 돌다 데드락 등으로 실패해도 기동은 막지 않는다 (upsert 라 다음 기동에 다시 해도 같은 결과)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThemeTagCounts() {
+        if (themeTagCountRepository.count() > 0) {
+            return;
+        }
+        try {
+            int rows = themeTagCountRepository.backfill();
+            log.info("테마별 태그 집계 초기화: {}건", rows);
+        } catch (DataAccessException e) {
+            log.warn("테마별 태그 집계 초기화 실패 (다른 서버가 채우는 중일 수 있음)", e);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.example.scrd.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.config.CacheConfig;
+import org.example.scrd.domain.Theme;
+import org.example.scrd.domain.ThemeClearStatsDelta;
+import org.example.scrd.dto.ThemeFacetEntry;
+import org.example.scrd.dto.ThemeReviewAggregate;
+import org.example.scrd.repo.ReviewRepository;
+import org.example.scrd.repo.ThemeRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테마 평점/공포도/활동성/난이도/가중 평점, 클리어 통계(ThemeClearStatsService) 재계산 큐.
+ *
+ * 예전에는 리뷰를 쓸 때마다 요청 스레드에서 AVG 쿼리 4번 + 테마 행 UPDATE 를 해서
+ * 리뷰가 몰리는 테마는 같은 행 잠금을 두고 줄을 섰다. 이제 리뷰 커밋 후 테마 id 만 dirty 로 표시하고,
+ * 스케줄러가 주기마다 모아서 테마당 집계 쿼리 1번 + UPDATE 1번으로 반영한다.
+ * 한 주기 안에 같은 테마 리뷰가 여러 개 들어와도 재계산은 한 번이다.
+ *
+ * 클리어 통계는 이벤트에 실린 리뷰 값으로 테마별 증감분을 모아 두었다가 같은 주기에 한 번 더한다.
+ *
+ * 평점은 최대 flush 주기만큼 늦게 반영된다. 서버가 죽으면 아직 반영 안 된 테마는 다음 리뷰 때 다시 계산된다.
+ */
+@Service
+@Slf4j
+public class ThemeAggregateService {
+    private final ReviewRepository reviewRepository;
+    private final ThemeRepository themeRepository;
+    private final ThemeFacetIndex themeFacetIndex;
+    private final ThemeClearStatsService themeClearStatsService;
+    private final CatalogVersionService catalogVersionService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final Set<Long> dirtyThemeIds = ConcurrentHashMap.newKeySet();
+    // 테마별 아직 반영 안 된 클리어 통계 증감분. 증감분 객체는 compute 안에서만 바꾼다
+    private final Map<Long, ThemeClearStatsDelta> pendingClearStats = new ConcurrentHashMap<>();
+
+    public ThemeAggregateService(ReviewRepository reviewRepository,
+                                 ThemeRepository themeRepository,
+                                 ThemeFacetIndex themeFacetIndex,
+                                 ThemeClearStatsService themeClearStatsService,
+                                 CatalogVersionService catalogVersionService,
+                                 CacheManager cacheManager,
+                                 PlatformTransactionManager transactionManager,
+                                 EntityManagerFactory entityManagerFactory) {
+        this.reviewRepository = reviewRepository;
+        this.themeRepository = themeRepository;
+        this.themeFacetIndex = themeFacetIndex;
+        this.themeClearStatsService = themeClearStatsService;
+        this.catalogVersionService = catalogVersionService;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // 롤백된 리뷰는 집계에 영향이 없으니 커밋 후에만 표시
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        // 증감분을 먼저 넣는다: dirty 를 먼저 넣으면 flush 가 증감분 없이 처리하고 지나갈 수 있다
+        pendingClearStats.compute(event.getThemeId(), (id, delta) -> {
+            ThemeClearStatsDelta target = delta != null ? delta : new ThemeClearStatsDelta();
+            return event.getType() == ReviewChangedEvent.Type.ADDED
+                    ? target.add(event.getIsSuccessful(), event.getHintUsageCount(), event.getClearTime())
+                    : target.remove(event.getIsSuccessful(), event.getHintUsageCount(), event.getClearTime());
+        });
+        dirtyThemeIds.add(event.getThemeId());
+    }
+
+    // 리뷰 수가 DB 에 반영되면 (CounterService flush) 가중 평점도 다시 계산하고, JDBC 로 바뀐 행은 2차 캐시에서 뺀다.
+    // 반영과 함께 mod_date(ETag) 가 바뀌니까 상세 캐시도 지금 비운다 (다음 집계 주기까지 두면 옛 리뷰 수가 새 ETag 로 나간다)
+    @EventListener
+    public void onCounterFlushed(CounterFlushedEvent event) {
+        if (event.getCounter() != Counter.THEME_REVIEW_COUNT) {
+            return;
+        }
+        for (Long themeId : event.getIds()) {
+            entityManagerFactory.getCache().evict(Theme.class, themeId);
+            evictThemeDetail(themeId);
+        }
+        dirtyThemeIds.addAll(event.getIds());
+    }
+
+    @Scheduled(fixedDelayString = "${custom.theme-aggregate.flush-interval-ms:2000}",
+            initialDelayString = "${custom.theme-aggregate.flush-interval-ms:2000}")
+    public void flush() {
+        if (dirtyThemeIds.isEmpty()) {
+            return;
+        }
+        List<Long> themeIds = new ArrayList<>(dirtyThemeIds);
+        dirtyThemeIds.removeAll(themeIds); // 처리 중에 들어온 리뷰는 다음 주기에 다시 계산
+
+        int updated = 0;
+        for (Long themeId : themeIds) {
+            ThemeClearStatsDelta clearStats = pendingClearStats.remove(themeId);
+            try {
+                if (recompute(themeId, clearStats)) {
+                    updated++;
+                }
+            } catch (Exception e) {
+                // 다음 주기에 재시도. 롤백됐으니 증감분도 그 사이 쌓인 것과 합쳐서 되돌려 둔다
+                if (clearStats != null) {
+                    pendingClearStats.merge(themeId, clearStats, (newer, failed) -> newer.merge(failed));
+                }
+                dirtyThemeIds.add(themeId);
+                log.warn("테마 집계 재계산 실패 themeId={}", themeId, e);
+            }
+        }
+        if (updated > 0) {
+            catalogVersionService.bump(CatalogVersionService.THEME); // 주기당 한 번
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private boolean recompute(Long themeId, ThemeClearStatsDelta clearStats) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            ThemeReviewAggregate aggregate = reviewRepository.getThemeReviewAggregate(themeId);
+            // 공포도/활동성은 리뷰 절반 이상이 체크했을 때 1
+            int rows = themeRepository.updateAggregates(themeId,
+                    aggregate.stars(),
+                    aggregate.level(),
+                    aggregate.horror() >= 0.5 ? 1 : 0,
+                    aggregate.activity() >= 0.5 ? 1 : 0,
+                    LocalDateTime.now());
+            if (rows == 0) {
+                return false; // 그 사이 테마가 삭제됨
+            }
+            if (clearStats != null) {
+                themeClearStatsService.apply(themeId, clearStats); // 클리어 시간 분포/성공률/힌트
+            }
+            // 2차 캐시를 거치지 않고 방금 UPDATE 한 행을 읽는다 (커밋 전 값이 캐시에 들어가지 않도록)
+            themeRepository.findFreshById(themeId)
+                    .ifPresent(theme -> themeFacetIndex.put(ThemeFacetEntry.from(theme))); // 공포도/활동성/난이도 패싯 반영
+            evictThemeAfterCommit(themeId);
+            evictThemeDetail(themeId);
+            return true;
+        }));
+    }
+
+    // JDBC 로 바꾼 행은 Hibernate 가 모르니 그 테마만 2차 캐시에서 뺀다.
+    // 커밋 전에 빼면 그 사이 다른 요청이 옛 값을 다시 넣을 수 있어서 커밋 후에
+    private void evictThemeAfterCommit(Long themeId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Theme.class, themeId);
+            }
+        });
+    }
+
+    // 평점/리뷰 수가 바뀐 테마 상세 캐시 삭제 (트랜잭션 안에서 부르면 커밋 후에 반영됨)
+    private void evictThemeDetail(Long themeId) {
+        for (String cacheName : List.of(CacheConfig.THEME_DETAIL, CacheConfig.THEME_WEB_DETAIL)) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(themeId);
+            }
+        }
+    }
+}
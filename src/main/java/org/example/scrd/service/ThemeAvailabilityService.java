@@ -0,0 +1,28 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.scrd.domain.ThemeDocument;
+import org.example.scrd.repo.ThemeMongoRepository;
+import org.example.scrd.util.SingleFlight;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 테마별 예약 가능 시간 조회 (Mongo reservation 컬렉션).
+ * 푸시 직후처럼 같은 (themeId, date) 조회가 몰리면 SingleFlight 로 Mongo 조회 한 번만 나가게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ThemeAvailabilityService {
+    private final ThemeMongoRepository themeMongoRepository;
+    private final SingleFlight singleFlight;
+
+    // 도큐먼트가 없으면 empty (크롤링 전 날짜 등)
+    public Optional<List<String>> findAvailableTimes(Long themeId, String date) {
+        return singleFlight.execute("theme-availability", themeId + "|" + date,
+                () -> themeMongoRepository.findByThemeIdAndDate(themeId.intValue(), date)
+                        .map(ThemeDocument::getAvailableTimes));
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.domain.ThemeClearStats;
+import org.example.scrd.domain.ThemeClearStatsDelta;
+import org.example.scrd.dto.ThemeClearStatsDto;
+import org.example.scrd.repo.ReviewRepository;
+import org.example.scrd.repo.ThemeClearStatsRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테마별 클리어 통계 (ThemeClearStats) 유지.
+ * 리뷰 트랜잭션에서는 건드리지 않고, ThemeAggregateService 가 주기마다 평점을 다시 계산할 때
+ * 그 주기에 쌓인 증감분(ThemeClearStatsDelta)만 통계 행에 더한다. 리뷰 수와 상관없이 테마당 행 하나만 읽고 쓴다.
+ *
+ * 증감분은 리뷰를 커밋한 서버 메모리에 있어서 서버가 죽으면 그 주기분은 빠진다.
+ * 어긋나면 theme_clear_stats 를 비우고 재기동해서 backfill 로 다시 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThemeClearStatsService {
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final ThemeClearStatsRepository themeClearStatsRepository;
+    private final ReviewRepository reviewRepository;
+
+    // 행이 없으면 먼저 만들면서 배타 잠금을 잡고, 최신 값을 잠금 읽기로 가져와 증감분을 더한다 (변경 감지로 UPDATE)
+    @Transactional
+    public void apply(Long themeId, ThemeClearStatsDelta delta) {
+        themeClearStatsRepository.insertIfAbsent(themeId);
+        themeClearStatsRepository.findByThemeIdForUpdate(themeId)
+                .orElseThrow(() -> new IllegalStateException("클리어 통계 행이 없습니다. themeId=" + themeId))
+                .apply(delta);
+    }
+
+    @Transactional(readOnly = true)
+    public ThemeClearStatsDto getStats(Long themeId) {
+        return themeClearStatsRepository.findByThemeId(themeId)
+                .map(ThemeClearStatsDto::from)
+                .orElse(null);
+    }
+
+    // 집계 테이블을 새로 만든 직후 한 번, 기존 리뷰로 채운다
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (themeClearStatsRepository.count() > 0) {
+            return;
+        }
+        Map<Long, ThemeClearStatsDelta> deltaByTheme = new HashMap<>();
+        long afterId = 0L;
+        List<ReviewRepository.ReviewClearRow> rows;
+        do {
+            rows = reviewRepository.findClearRowsAfter(afterId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            for (ReviewRepository.ReviewClearRow row : rows) {
+                deltaByTheme.computeIfAbsent(row.getThemeId(), id -> new ThemeClearStatsDelta())
+                        .add(row.getIsSuccessful(), row.getHintUsageCount(), row.getClearTime());
+                afterId = row.getId();
+            }
+        } while (rows.size() == BACKFILL_BATCH_SIZE);
+
+        // 그 사이 집계 flush 가 먼저 만든 행이 있어도 upsert 라 충돌하지 않는다 (전체 리뷰로 센 값으로 덮어씀)
+        deltaByTheme.forEach((themeId, delta) -> {
+            ThemeClearStats stats = new ThemeClearStats(themeId);
+            stats.apply(delta);
+            save(stats);
+        });
+        log.info("테마별 클리어 통계 초기화: {}개 테마", deltaByTheme.size());
+    }
+
+    private void save(ThemeClearStats stats) {
+        themeClearStatsRepository.upsert(stats.getThemeId(),
+                stats.getResultCount(),
+                stats.getSuccessCount(),
+                stats.getHintReviewCount(),
+                stats.getHintTotal(),
+                stats.getClearTimes().encode());
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.dto.LocationCountDto;
+import org.example.scrd.dto.ThemeFacetEntry;
+import org.example.scrd.dto.response.ThemeFacetResponse;
+import org.example.scrd.repo.ThemeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테마 필터용 인메모리 인덱스.
+ * 지역별 테마 수는 테마 등록/수정 때 증감만 하고 (다른 경로로 지워진 테마는 주기적 재적재로 빠진다), 패싯 카운트는 인덱스를 한 번 훑어서 계산한다.
+ * 그래서 location-counts 와 필터 시트가 매번 GROUP BY 쿼리를 날리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ThemeFacetIndex {
+    private final ThemeRepository themeRepository;
+
+    private final Map<Long, ThemeFacetEntry> entries = new ConcurrentHashMap<>();
+    // location 은 null 일 수 있어서 HashMap 을 쓰고 this 로 동기화
+    private final Map<String, Long> locationCounts = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    // 다른 서버에서 일어난 변경까지 맞추기 위해 주기적으로 DB 기준으로 다시 만든다.
+    @Scheduled(fixedDelayString = "${custom.theme-facet.rebuild-interval-ms:600000}",
+            initialDelayString = "${custom.theme-facet.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        List<ThemeFacetEntry> all = themeRepository.findAllFacetEntries();
+        entries.clear();
+        locationCounts.clear();
+        for (ThemeFacetEntry entry : all) {
+            entries.put(entry.getId(), entry);
+            locationCounts.merge(entry.getLocation(), 1L, Long::sum);
+        }
+        log.info("테마 필터 인덱스 재구성 완료: {}개", all.size());
+    }
+
+    // 테마 등록/수정, 리뷰로 인한 공포도/활동성/난이도 변경 시 호출
+    public synchronized void put(ThemeFacetEntry entry) {
+        ThemeFacetEntry old = entries.put(entry.getId(), entry);
+        if (old != null) {
+            decrementLocation(old.getLocation());
+        }
+        locationCounts.merge(entry.getLocation(), 1L, Long::sum);
+    }
+
+    // 테마 수가 많은 지역 순
+    public synchronized List<LocationCountDto> getLocationCounts() {
+        List<LocationCountDto> result = new ArrayList<>();
+        locationCounts.forEach((location, count) -> result.add(new LocationCountDto(location, count)));
+        result.sort(Comparator.comparing(LocationCountDto::getCount).reversed());
+        return result;
+    }
+
+    /**
+     * 현재 필터 조건에 대한 패싯 카운트를 인덱스 한 번 순회로 계산한다.
+     * 필터 조건은 ThemeRepositoryCustomImpl.findThemeCardsByCriteria 와 동일하게 해석한다.
+     */
+    public ThemeFacetResponse getFacets(
+            String keyword,
+            Integer horror,
+            Integer activity,
+            Float levelMin,
+            Float levelMax,
+            String location
+    ) {
+        String lowerKeyword = (keyword != null && !keyword.isEmpty()) ? keyword.toLowerCase() : null;
+        boolean hasLocation = location != null && !location.isEmpty();
+
+        long total = 0;
+        Map<String, Long> locationFacet = new LinkedHashMap<>();
+        Map<Integer, Long> horrorFacet = new TreeMap<>();
+        Map<Integer, Long> activityFacet = new TreeMap<>();
+        Map<Integer, Long> levelFacet = new TreeMap<>();
+
+        for (ThemeFacetEntry entry : entries.values()) {
+            if (lowerKeyword != null && !matchesKeyword(entry, lowerKeyword)) continue;
+
+            boolean horrorOk = horror == null || horror.equals(entry.getHorror());
+            boolean activityOk = activity == null || activity.equals(entry.getActivity());
+            boolean levelOk = matchesLevel(entry.getLevel(), levelMin, levelMax);
+            boolean locationOk = !hasLocation || location.equals(entry.getLocation());
+
+            if (horrorOk && activityOk && levelOk && locationOk) total++;
+            // 각 패싯은 자기 자신의 필터만 빼고 나머지 조건을 적용
+            if (horrorOk && activityOk && levelOk && entry.getLocation() != null) {
+                locationFacet.merge(entry.getLocation(), 1L, Long::sum);
+            }
+            if (activityOk && levelOk && locationOk && entry.getHorror() != null) {
+                horrorFacet.merge(entry.getHorror(), 1L, Long::sum);
+            }
+            if (horrorOk && levelOk && locationOk && entry.getActivity() != null) {
+                activityFacet.merge(entry.getActivity(), 1L, Long::sum);
+            }
+            if (horrorOk && activityOk && locationOk && entry.getLevelBucket() != null) {
+                levelFacet.merge(entry.getLevelBucket(), 1L, Long::sum);
+            }
+        }
+
+        return new ThemeFacetResponse(total, locationFacet, horrorFacet, activityFacet, levelFacet);
+    }
+
+    private void decrementLocation(String location) {
+        locationCounts.computeIfPresent(location, (key, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private static boolean matchesKeyword(ThemeFacetEntry entry, String lowerKeyword) {
+        return containsIgnoreCase(entry.getTitle(), lowerKeyword)
+                || containsIgnoreCase(entry.getBrand(), lowerKeyword)
+                || containsIgnoreCase(entry.getLocation(), lowerKeyword);
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerKeyword) {
+        return value != null && value.toLowerCase().contains(lowerKeyword);
+    }
+
+    // SQL 과 같게, 범위 조건이 있는데 난이도가 null 이면 제외
+    private static boolean matchesLevel(Float level, Float levelMin, Float levelMax) {
+        if (levelMin == null && levelMax == null) return true;
+        if (level == null) return false;
+        return (levelMin == null || level >= levelMin) && (levelMax == null || level <= levelMax);
+    }
+}
@@ -1,41 +1,111 @@
 package org.example.scrd.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.config.CacheConfig;
 import org.example.scrd.domain.Theme;
-import org.example.scrd.domain.ThemeDocument;
 import org.example.scrd.dto.LocationCountDto;
 import org.example.scrd.dto.MobileThemeDto;
+import org.example.scrd.dto.ThemeCard;
 import org.example.scrd.dto.ThemeDto;
+import org.example.scrd.dto.ThemeFacetEntry;
+import org.example.scrd.dto.response.ThemeFacetResponse;
 import org.example.scrd.exception.NotFoundException;
-import org.example.scrd.repo.ThemeMongoRepository;
 import org.example.scrd.repo.ThemeRepository;
+import org.example.scrd.repo.ThemeTagCountRepository;
+import org.example.scrd.util.SingleFlight;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ThemeService {
-    private final ThemeRepository themeRepository;
-    private final ThemeMongoRepository themeMongoRepository;
+    private static final int STREAM_FLUSH_INTERVAL = 100;
 
+    private final ThemeRepository themeRepository;
+    private final ThemeAvailabilityService themeAvailabilityService;
+    private final ThemeFacetIndex themeFacetIndex;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersionService catalogVersionService;
+    private final SingleFlight singleFlight;
+    private final ThemeTagCountRepository themeTagCountRepository;
+    private final ThemeClearStatsService themeClearStatsService;
+    private final CounterService counterService;
+
+    @CacheEvict(cacheNames = CacheConfig.LOCATION_COUNTS, allEntries = true)
     public void addTheme(ThemeDto dto){
-        themeRepository.save(Theme.from(dto));
+        Theme theme = themeRepository.save(Theme.from(dto));
+        themeFacetIndex.put(ThemeFacetEntry.from(theme));
+        catalogVersionService.bump(CatalogVersionService.THEME);
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CacheConfig.THEME_DETAIL, CacheConfig.THEME_WEB_DETAIL}, key = "#themeId"),
+            @CacheEvict(cacheNames = CacheConfig.LOCATION_COUNTS, allEntries = true)
+    })
     public void updateTheme(Long themeId, ThemeDto dto) {
         Theme theme =
                 themeRepository.findById(themeId).orElseThrow(() -> new NotFoundException("방탈출 주제가 존재하지 않습니다."));
         theme.update(dto);
+        themeFacetIndex.put(ThemeFacetEntry.from(theme));
+        catalogVersionService.bump(CatalogVersionService.THEME);
+    }
+
+    // 테마 상세 ETag: id + 수정 시각 (리뷰로 평점이 바뀌어도 modDate 가 갱신됨)
+    // + 아직 DB 에 반영 안 된 리뷰 수 증감분 (반영되면 modDate 가 바뀜)
+    public String getThemeETag(Long themeId) {
+        long pending = counterService.current(Counter.THEME_REVIEW_COUNT, themeId, 0);
+        return themeRepository.findModDateById(themeId)
+                .map(modDate -> "theme-" + themeId + "-" + modDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                        + (pending != 0 ? "-p" + pending : ""))
+                .orElse(null);
+    }
+
+    // 캐시된 상세에 Redis 에 쌓여 있는 리뷰 수 증감분을 더한다 (캐시 밖에서 호출)
+    public ThemeDto withLiveReviewCount(ThemeDto dto) {
+        int persisted = dto.getReviewCount() != null ? dto.getReviewCount() : 0;
+        long current = counterService.current(Counter.THEME_REVIEW_COUNT, dto.getId(), persisted);
+        return current == persisted ? dto : dto.toBuilder().reviewCount((int) current).build();
+    }
+
+    // 테마 목록 ETag: 카탈로그 버전
+    public String getThemeCatalogETag() {
+        Long version = catalogVersionService.current(CatalogVersionService.THEME);
+        return version != null ? "themes-v" + version : null;
+    }
+
+    // combined_score 가 비어있는 기존 테마 채우기
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillCombinedScores() {
+        int updated = themeRepository.backfillCombinedScores(Theme.PRIOR_MEAN, Theme.PRIOR_WEIGHT);
+        if (updated > 0) {
+            log.info("combined_score 백필 완료: {}개", updated);
+        }
     }
 
     public Theme getThemeById(Long themeId) {
@@ -43,26 +113,76 @@ public class ThemeService {
                 .orElseThrow(() -> new RuntimeException("해당 테마가 없습니다."));
     }
 
+    private Theme getFreshThemeById(Long themeId) {
+        return themeRepository.findFreshById(themeId)
+                .orElseThrow(() -> new RuntimeException("해당 테마가 없습니다."));
+    }
+
+    // 테마 상세 (앱/웹). 리뷰로 평점이 바뀌면 ThemeAggregateService 에서 지운다.
+    // 결과가 모든 서버가 같이 쓰는 캐시에 들어가니까 이 서버의 2차 캐시가 아니라 DB 에서 읽는다.
+    @Cacheable(cacheNames = CacheConfig.THEME_DETAIL, key = "#themeId", sync = true)
+    public ThemeDto getThemeDetail(Long themeId) {
+        return ThemeDto.toDto(getFreshThemeById(themeId)).toBuilder()
+                .tags(themeTagCountRepository.findTagCountsByThemeId(themeId))
+                .clearStats(themeClearStatsService.getStats(themeId))
+                .build();
+    }
+
+    @Cacheable(cacheNames = CacheConfig.THEME_WEB_DETAIL, key = "#themeId", sync = true)
+    public ThemeDto getThemeWebDetail(Long themeId) {
+        return ThemeDto.toWebDto(getFreshThemeById(themeId)).toBuilder()
+                .tags(themeTagCountRepository.findTagCountsByThemeId(themeId))
+                .clearStats(themeClearStatsService.getStats(themeId))
+                .build();
+    }
+
     //DB에서 모든 Theme 엔티티를 꺼내서, 각 항목을 ThemeDto로 변환한 다음, 그걸 리스트로 만들어서 반환한다.
     public List<ThemeDto> getAllThemes() {
-        List<Theme> themes = themeRepository.findAll();
-        return themes
+        return singleFlight.execute("themes", "all", () -> themeRepository.findAll()
             .stream()
             .map(ThemeDto::toDto)
-            .collect(Collectors.toList());
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 전체 테마를 NDJSON(한 줄에 ThemeDto 하나)으로 바로 써준다.
+     * 커서로 한 건씩 읽어서 쓰고 바로 detach 하기 때문에 테마 수가 늘어도 메모리 사용량이 일정하다.
+     */
+    @Transactional(readOnly = true)
+    public void streamAllThemes(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ThemeDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (Stream<Theme> themes = themeRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            int written = 0;
+            for (Iterator<Theme> it = themes.iterator(); it.hasNext(); ) {
+                Theme theme = it.next();
+                writer.writeValue(generator, ThemeDto.toDto(theme));
+                generator.writeRaw('\n');
+                entityManager.detach(theme);
+
+                if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
     }
 
 
     public List<String> getAvailableTimesByDate(Long themeId, String date) {
-        return themeMongoRepository.findByThemeIdAndDate(themeId.intValue(), date)
-                .orElseThrow(() -> new RuntimeException("해당 테마와 날짜에 맞는 도큐먼트가 없습니다."))
-                .getAvailableTimes();
+        return themeAvailabilityService.findAvailableTimes(themeId, date)
+                .orElseThrow(() -> new RuntimeException("해당 테마와 날짜에 맞는 도큐먼트가 없습니다."));
     }
 
-    public List<ThemeDto> getThemesSortedByRating() {
-        return themeRepository.findThemesOrderByReviewCountAndRating().stream()
-                .map(ThemeDto::toDto)
-                .collect(Collectors.toList());
+    public List<ThemeDto> getThemesSortedByRating(Integer limit) {
+        return singleFlight.execute("themes-rating", String.valueOf(limit),
+                () -> themeRepository.findThemesOrderByReviewCountAndRating(limit).stream()
+                        .map(ThemeDto::toDto)
+                        .collect(Collectors.toList()));
     }
 
     public List<MobileThemeDto> getThemesByFilterCriteria(
@@ -77,26 +197,29 @@ public class ThemeService {
             int size,
             String sort
     ) {
-
-        List<Theme> themes = themeRepository.findThemesByCriteria(
-                keyword, horror, activity, levelMin, levelMax, location, page, size, sort
-        );
-
         String dateString = date != null ? date.toString() : LocalDate.now().toString();
-
-        List<MobileThemeDto> result = themes.stream().map(theme -> {
-            List<String> availableTimes = themeMongoRepository.findByThemeIdAndDate(theme.getId().intValue(), dateString)
-                    .map(ThemeDocument::getAvailableTimes)
-                    .orElse(Collections.emptyList());
-            return MobileThemeDto.from(theme, availableTimes);
-        }).collect(Collectors.toList());
-
-        return result;
+        // 푸시 직후 같은 조건으로 몰리는 요청은 SQL + Mongo 조회를 한 번만
+        String flightKey = String.join("|", String.valueOf(keyword), String.valueOf(horror), String.valueOf(activity),
+                String.valueOf(levelMin), String.valueOf(levelMax), String.valueOf(location), dateString,
+                String.valueOf(page), String.valueOf(size), sort);
+
+        return singleFlight.execute("theme-filter", flightKey, () -> {
+            List<ThemeCard> themes = themeRepository.findThemeCardsByCriteria(
+                    keyword, horror, activity, levelMin, levelMax, location, page, size, sort
+            );
+
+            return themes.stream().map(theme -> {
+                List<String> availableTimes = themeAvailabilityService.findAvailableTimes(theme.getId(), dateString)
+                        .orElse(Collections.emptyList());
+                return MobileThemeDto.from(theme, availableTimes);
+            }).collect(Collectors.toList());
+        });
     }
 
 
+    @Cacheable(cacheNames = CacheConfig.LOCATION_COUNTS, key = "'all'", sync = true)
     public Map<String, Object> getLocationCountsWithTotal() {
-        List<LocationCountDto> counts = themeRepository.countThemesByLocation();
+        List<LocationCountDto> counts = themeFacetIndex.getLocationCounts();
         int total = counts.stream()
                 .mapToInt(c -> c.getCount().intValue())
                 .sum();
@@ -108,7 +231,15 @@ public class ThemeService {
         return result;
     }
 
-
-
+    public ThemeFacetResponse getThemeFacets(
+            String keyword,
+            Integer horror,
+            Integer activity,
+            Float levelMin,
+            Float levelMax,
+            String location
+    ) {
+        return themeFacetIndex.getFacets(keyword, horror, activity, levelMin, levelMax, location);
+    }
 
 }
@@ -0,0 +1,142 @@
+package org.example.scrd.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.scrd.domain.Theme;
+import org.example.scrd.dto.ThemeDto;
+import org.example.scrd.repo.ThemeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "이번 주 인기 테마" 랭킹 (Redis ZSET, 지수 시간 감쇠).
+ *
+ * 이벤트 점수를 그대로 줄이는 대신 weight * e^((now - epoch) / tau) 만큼 더해서
+ * 최근 이벤트가 더 큰 점수를 받도록 한다. 점수 순서는 감쇠한 값과 같고 쓰기는 ZINCRBY 한 번이다.
+ * 점수가 계속 커지니까 주기적으로 전체에 e^(-(now - epoch) / tau) 를 곱하고 epoch 를 당긴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingThemeService {
+    private static final String TRENDING_KEY = "trending:theme";
+    private static final String EPOCH_KEY = "trending:theme:epoch";
+    private static final int MAX_MEMBERS = 1000;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final double MIN_SCORE = 0.01;
+
+    // KEYS[1]=zset, KEYS[2]=epoch / ARGV[1]=themeId, ARGV[2]=weight, ARGV[3]=now(초), ARGV[4]=tau(초)
+    private static final RedisScript<String> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not epoch then epoch = tonumber(ARGV[3]); redis.call('SET', KEYS[2], ARGV[3]) end " +
+            "local inc = tonumber(ARGV[2]) * math.exp((tonumber(ARGV[3]) - epoch) / tonumber(ARGV[4])) " +
+            "return tostring(redis.call('ZINCRBY', KEYS[1], inc, ARGV[1]))",
+            String.class);
+
+    // KEYS[1]=zset, KEYS[2]=epoch / ARGV[1]=now(초), ARGV[2]=tau(초), ARGV[3]=최소 점수, ARGV[4]=최대 개수
+    private static final RedisScript<Long> RENORMALIZE_SCRIPT = new DefaultRedisScript<>(
+            "local epoch = tonumber(redis.call('GET', KEYS[2])) " +
+            "if not epoch then return 0 end " +
+            "local factor = math.exp(-(tonumber(ARGV[1]) - epoch) / tonumber(ARGV[2])) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('ZUNIONSTORE', KEYS[1], 1, KEYS[1], 'WEIGHTS', tostring(factor)) " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) " +
+            "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[4]) + 1)) " +
+            "end " +
+            "redis.call('SET', KEYS[2], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ThemeRepository themeRepository;
+
+    @Value("${custom.trending.half-life-hours:72}")
+    private double halfLifeHours;
+
+    public enum Signal {
+        REVIEW(3), PARTY(2), SAVE(1);
+
+        private final int weight;
+
+        Signal(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    // 리뷰 작성 / 일행 모집 / 테마 저장 시 호출.
+    // 트랜잭션 안이면 커밋된 뒤에만 점수를 올린다 (롤백된 리뷰/저장이 랭킹에 남지 않도록).
+    public void record(Long themeId, Signal signal) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(themeId, signal);
+                }
+            });
+        } else {
+            increment(themeId, signal);
+        }
+    }
+
+    // 랭킹 실패가 본 기능을 막으면 안 되니까 예외는 로그만 남긴다.
+    private void increment(Long themeId, Signal signal) {
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT,
+                    List.of(TRENDING_KEY, EPOCH_KEY),
+                    String.valueOf(themeId),
+                    String.valueOf(signal.weight),
+                    String.valueOf(nowSeconds()),
+                    String.valueOf(tauSeconds()));
+        } catch (Exception e) {
+            log.warn("인기 테마 점수 반영 실패 themeId={} signal={}", themeId, signal, e);
+        }
+    }
+
+    // 상위 N개: ZREVRANGE 는 O(log n + N)
+    public List<ThemeDto> getTrendingThemes(int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE); // 0 이하면 0..-1 이 되어 전체가 나온다
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(TRENDING_KEY, 0, pageSize - 1);
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = members.stream().map(Long::valueOf).toList();
+        Map<Long, Theme> themes = themeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+
+        return ids.stream()
+                .map(themes::get)
+                .filter(Objects::nonNull) // 삭제된 테마 제외
+                .map(ThemeDto::toDto)
+                .collect(Collectors.toList());
+    }
+
+    // 점수가 double 범위를 넘지 않도록 epoch 를 현재로 당기고, 의미 없는 꼬리는 정리
+    @Scheduled(fixedDelayString = "${custom.trending.renormalize-interval-ms:21600000}",
+            initialDelayString = "${custom.trending.renormalize-interval-ms:21600000}")
+    public void renormalize() {
+        redisTemplate.execute(RENORMALIZE_SCRIPT,
+                List.of(TRENDING_KEY, EPOCH_KEY),
+                String.valueOf(nowSeconds()),
+                String.valueOf(tauSeconds()),
+                String.valueOf(MIN_SCORE),
+                String.valueOf(MAX_MEMBERS));
+    }
+
+    private double tauSeconds() {
+        return halfLifeHours * 3600 / Math.log(2);
+    }
+
+    private static long nowSeconds() {
+        return System.currentTimeMillis() / 1000;
+    }
+}
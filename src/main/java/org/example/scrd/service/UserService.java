@@ -3,6 +3,7 @@ package org.example.scrd.service;
 import lombok.RequiredArgsConstructor;
 import org.example.scrd.domain.Role;
 import org.example.scrd.domain.User;
+import org.example.scrd.dto.Tier;
 import org.example.scrd.dto.request.UserProfileUpdateRequest;
 import org.example.scrd.dto.response.UserResponse;
 import org.example.scrd.exception.NotFoundException;
@@ -17,10 +18,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
     private final UserRepository userRepository;
     private final StringRedisTemplate redisTemplate;
+    private final CounterService counterService;
 
     public UserResponse getUserInfo(Long userId){
         User user = userRepository.findById(userId).orElseThrow(() -> new NotFoundException("해당 유가 존재하지 않습니다."));
-        return UserResponse.from(user);
+        if (!counterService.hasPending(Counter.USER_REVIEW_COUNT, userId)
+                && !counterService.hasPending(Counter.USER_POINT, userId)) {
+            return UserResponse.from(user);
+        }
+        int count = (int) counterService.current(Counter.USER_REVIEW_COUNT, userId, user.getCount());
+        int point = (int) counterService.current(Counter.USER_POINT, userId, user.getPoint());
+        return UserResponse.from(user, point, count, Tier.getTierByCount(count));
     }
 
     @Transactional
@@ -0,0 +1,52 @@
+package org.example.scrd.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰의 클리어 시간(자유 입력 문자열)을 초 단위로 바꾼다.
+ * 앱에서 들어오는 형태: "45:30", "1:05:00", "45분 30초", "1시간 5분", "45" (숫자만 있으면 분)
+ * 해석할 수 없으면 null → 통계에서 제외.
+ */
+public final class ClearTimeParser {
+    private static final Pattern COLON = Pattern.compile("^(?:(\\d{1,2}):)?(\\d{1,3}):(\\d{1,2})$");
+    // 자릿수를 묶어 둬야 "99999999999분" 같은 입력에서 parseInt 가 터지거나 곱셈이 넘치지 않는다
+    private static final Pattern KOREAN = Pattern.compile("^(?:(\\d{1,2})\\s*시간)?\\s*(?:(\\d{1,4})\\s*분)?\\s*(?:(\\d{1,5})\\s*초)?$");
+    private static final Pattern MINUTES = Pattern.compile("^(\\d{1,3})$");
+    private static final int MAX_SECONDS = 24 * 3600;
+
+    private ClearTimeParser() {
+    }
+
+    public static Integer toSeconds(String clearTime) {
+        if (clearTime == null) {
+            return null;
+        }
+        String value = clearTime.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+
+        Matcher matcher = COLON.matcher(value);
+        if (matcher.matches()) {
+            return validate(number(matcher.group(1)) * 3600 + number(matcher.group(2)) * 60 + number(matcher.group(3)));
+        }
+        matcher = MINUTES.matcher(value);
+        if (matcher.matches()) {
+            return validate(number(matcher.group(1)) * 60);
+        }
+        matcher = KOREAN.matcher(value);
+        if (matcher.matches() && (matcher.group(1) != null || matcher.group(2) != null || matcher.group(3) != null)) {
+            return validate(number(matcher.group(1)) * 3600 + number(matcher.group(2)) * 60 + number(matcher.group(3)));
+        }
+        return null;
+    }
+
+    private static int number(String group) {
+        return group == null ? 0 : Integer.parseInt(group);
+    }
+
+    private static Integer validate(int seconds) {
+        return seconds > 0 && seconds <= MAX_SECONDS ? seconds : null;
+    }
+}
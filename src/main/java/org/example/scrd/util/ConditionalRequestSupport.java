@@ -0,0 +1,54 @@
+package org.example.scrd.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * If-None-Match 처리 + 304 비율 메트릭.
+ * 컨트롤러에서 DTO 변환/직렬화 전에 호출해서 true 면 바로 null 을 반환하면 된다 (304, 바디 없음).
+ *
+ * 메트릭: scrd.http.conditional{endpoint, result=not_modified|modified}, scrd.http.conditional.ratio
+ */
+@Component
+public class ConditionalRequestSupport {
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong notModifiedCount = new AtomicLong();
+    private final AtomicLong totalCount = new AtomicLong();
+
+    public ConditionalRequestSupport(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("scrd.http.conditional.ratio", this,
+                        support -> {
+                            long total = support.totalCount.get();
+                            return total == 0 ? 0.0 : (double) support.notModifiedCount.get() / total;
+                        })
+                .description("ETag 검사 요청 중 304 로 응답한 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param etag null 이면 (버전 조회 실패 등) 검사하지 않고 false
+     */
+    public boolean checkNotModified(WebRequest request, String endpoint, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        boolean notModified = request.checkNotModified(etag);
+
+        totalCount.incrementAndGet();
+        if (notModified) {
+            notModifiedCount.incrementAndGet();
+        }
+        Counter.builder("scrd.http.conditional")
+                .tag("endpoint", endpoint)
+                .tag("result", notModified ? "not_modified" : "modified")
+                .register(meterRegistry)
+                .increment();
+        return notModified;
+    }
+}
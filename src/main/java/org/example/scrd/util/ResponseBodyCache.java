@@ -0,0 +1,144 @@
+package org.example.scrd.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.scrd.service.CatalogVersionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 모든 유저에게 같은 응답(지역별 테마 수, 평점순 목록, 필터 첫 페이지 등)을 직렬화된 바이트로 캐시.
+ * 원본(identity) 과 gzip 을 같이 들고 있다가 서블릿 출력 스트림에 바로 쓴다. SQL/DTO 변환/Jackson 을 모두 건너뛴다.
+ *
+ * 엔트리는 만들 때의 카탈로그 버전(theme)을 기억하고, 테마/리뷰 쓰기로 버전이 오르면 다음 요청에서 다시 만든다.
+ * Mongo 예약 가능 시간처럼 카탈로그 버전과 무관하게 바뀌는 내용이 섞인 응답은 ttl 을 줘서 짧게만 캐시한다.
+ *
+ * 컨트롤러에서 serve 가 true 를 반환하면 응답을 이미 쓴 것이니 null 을 반환하면 된다 (304 처리와 같은 방식).
+ * 메트릭: scrd.response.cache{endpoint, result=hit|miss}
+ */
+@Component
+public class ResponseBodyCache {
+    private static final int MAX_ENTRIES = 64;
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+    private final CatalogVersionService catalogVersionService;
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ResponseBodyCache(CatalogVersionService catalogVersionService,
+                             ObjectMapper objectMapper,
+                             MappingJackson2CborHttpMessageConverter cborHttpMessageConverter,
+                             MeterRegistry meterRegistry) {
+        this.catalogVersionService = catalogVersionService;
+        this.jsonMapper = objectMapper;
+        this.cborMapper = cborHttpMessageConverter.getObjectMapper();
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record Entry(long version, long expiresAt, MediaType contentType, byte[] identity, byte[] gzip) {
+        boolean isValid(long currentVersion, long now) {
+            return version == currentVersion && now < expiresAt;
+        }
+    }
+
+    /**
+     * @param key    같은 응답이 나오는 요청끼리 같은 값이 되도록 정규화한 키
+     * @param ttl    null 이면 카탈로그 버전이 바뀔 때까지 유지
+     * @param loader 캐시 미스 때만 호출
+     * @return 응답을 썼으면 true. 버전을 못 읽으면 (Redis 장애) false → 원래대로 처리
+     */
+    public boolean serve(HttpServletRequest request, HttpServletResponse response,
+                         String endpoint, String key, Duration ttl, Supplier<?> loader) throws IOException {
+        Long version = catalogVersionService.current(CatalogVersionService.THEME);
+        if (version == null) {
+            return false;
+        }
+
+        boolean cbor = prefersCbor(request);
+        String cacheKey = (cbor ? "cbor:" : "json:") + key;
+        long now = System.currentTimeMillis();
+
+        Entry entry = entries.get(cacheKey);
+        boolean hit = entry != null && entry.isValid(version, now);
+        if (!hit) {
+            entry = encode(loader.get(), cbor, version, ttl == null ? Long.MAX_VALUE : now + ttl.toMillis());
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear(); // 키 종류가 몇 개 안 돼서 넘칠 일은 거의 없다. 넘치면 그냥 비운다
+            }
+            entries.put(cacheKey, entry);
+        }
+        Counter.builder("scrd.response.cache")
+                .tag("endpoint", endpoint)
+                .tag("result", hit ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+
+        write(request, response, entry);
+        return true;
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, Entry entry) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        byte[] body = gzip ? entry.gzip() : entry.identity();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType().toString());
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    private Entry encode(Object value, boolean cbor, long version, long expiresAt) {
+        try {
+            byte[] identity = (cbor ? cborMapper : jsonMapper).writeValueAsBytes(value);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(identity);
+            }
+            MediaType contentType = cbor ? APPLICATION_CBOR : MediaType.APPLICATION_JSON;
+            return new Entry(version, expiresAt, contentType, identity, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // JSON 을 같이 허용하더라도 CBOR 를 명시하면 CBOR (모바일 클라이언트)
+    private static boolean prefersCbor(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(type -> type.equalsTypeAndSubtype(APPLICATION_CBOR));
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+    }
+}
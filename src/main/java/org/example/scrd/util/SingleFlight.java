@@ -0,0 +1,93 @@
+package org.example.scrd.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 읽기 요청을 하나로 합친다 (single-flight).
+ * 처음 들어온 호출(leader)만 실제로 조회하고, 그 사이에 같은 키로 들어온 호출은 leader 의 CompletableFuture 를 기다렸다 같은 결과를 받는다.
+ * 결과를 보관하지는 않는다. 조회가 끝나면 키를 지우니까 다음 요청은 다시 조회한다 (캐시가 아님).
+ *
+ * 결과 객체를 여러 요청이 같이 쓰므로 DTO 처럼 읽기만 하는 값에만 쓴다. 영속 상태의 엔티티는 넘기면 안 된다.
+ * 메트릭: scrd.singleflight{name, role=leader|shared}, scrd.singleflight.dedup.ratio
+ */
+@Component
+public class SingleFlight {
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong sharedCount = new AtomicLong();
+    private final AtomicLong totalCount = new AtomicLong();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("scrd.singleflight.dedup.ratio", this,
+                        flight -> {
+                            long total = flight.totalCount.get();
+                            return total == 0 ? 0.0 : (double) flight.sharedCount.get() / total;
+                        })
+                .description("single-flight 호출 중 다른 요청의 결과를 같이 받은 비율")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param name   메트릭 태그 겸 키 네임스페이스 (ex: "theme-filter")
+     * @param key    같은 결과가 나오는 호출끼리 같은 값. 파라미터를 그대로 이어 붙이면 된다
+     * @param loader leader 만 호출. 예외도 기다리던 호출 모두에게 그대로 전달된다
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Supplier<T> loader) {
+        String flightKey = name + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        totalCount.incrementAndGet();
+        if (existing != null) {
+            sharedCount.incrementAndGet();
+            count(name, "shared");
+            return (T) await(existing);
+        }
+
+        count(name, "leader");
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private void count(String name, String role) {
+        Counter.builder("scrd.singleflight")
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+}
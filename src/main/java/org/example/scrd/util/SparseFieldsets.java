@@ -0,0 +1,71 @@
+package org.example.scrd.util;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.example.scrd.dto.MobileThemeDto;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * fields= 파라미터로 요청한 속성만 직렬화하기 위한 도우미 (MobileThemeDto 목록 응답용).
+ * 필드 조합마다 필터를 한 번만 만들어 캐시해두고 재사용한다.
+ * ex: /scrd/api/theme/filter?fields=title,image,rating,availableTimes
+ */
+@Component
+public class SparseFieldsets {
+    public static final String FILTER_ID = "sparseFields";
+    private static final int MAX_CACHED_FIELDSETS = 256;
+
+    private final Set<String> knownFields;
+    private final FilterProvider allFields;
+    private final Map<String, FilterProvider> cache = new ConcurrentHashMap<>();
+
+    public SparseFieldsets(ObjectMapper objectMapper) {
+        BeanDescription description = objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(MobileThemeDto.class));
+        this.knownFields = description.findProperties().stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toUnmodifiableSet());
+        this.allFields = new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * @param fields null 이거나 비어있으면 전체 필드. 모르는 이름은 무시하고 id 는 항상 포함한다.
+     */
+    public MappingJacksonValue apply(Object body, Collection<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filterFor(fields));
+        return value;
+    }
+
+    private FilterProvider filterFor(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return allFields;
+        }
+        TreeSet<String> normalized = fields.stream()
+                .map(String::trim)
+                .filter(knownFields::contains)
+                .collect(Collectors.toCollection(TreeSet::new));
+        normalized.add("id");
+
+        String key = String.join(",", normalized);
+        FilterProvider cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        FilterProvider provider = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(normalized));
+        if (cache.size() < MAX_CACHED_FIELDSETS) {
+            cache.putIfAbsent(key, provider);
+        }
+        return provider;
+    }
+}
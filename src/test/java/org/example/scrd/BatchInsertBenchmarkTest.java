@@ -0,0 +1,127 @@
+package org.example.scrd;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.scrd.config.HibernateConfig;
+import org.example.scrd.domain.*;
+import org.example.scrd.repo.NotificationRepository;
+import org.example.scrd.repo.ReviewRepository;
+import org.example.scrd.repo.ReviewTagMapRepository;
+import org.example.scrd.repo.TagRepository;
+import org.example.scrd.repo.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 알림/태그 매핑 대량 insert 처리량 (테이블 생성기 + JDBC 배치).
+ * 실제 DB 에 유저/리뷰/태그가 하나 이상 있어야 하고, 테스트 트랜잭션은 롤백된다.
+ * 비교용으로 hibernate.jdbc.batch_size=1 로 돌리면 배치 없는 수치를 볼 수 있다 (이때는 statement 수 검증이 실패한다).
+ */
+@SpringBootTest
+@Transactional
+class BatchInsertBenchmarkTest {
+    private static final int ROWS = 1_000;
+    // 배치당 INSERT 1번 + id 블록당 생성기 SELECT/UPDATE. 여유를 둬도 배치가 꺼지면 (ROWS 번) 넘는다
+    private static final long MAX_STATEMENTS = ROWS / IdGenerator.ALLOCATION_SIZE * 4L;
+
+    @Autowired
+    EntityManager entityManager;
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    DataSource dataSource;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ReviewRepository reviewRepository;
+    @Autowired
+    TagRepository tagRepository;
+    @Autowired
+    NotificationRepository notificationRepository;
+    @Autowired
+    ReviewTagMapRepository reviewTagMapRepository;
+
+    Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에 rewriteBatchedStatements 가 들어가 있다")
+    void rewriteBatchedStatementsEnabled() throws Exception {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertEquals("true", hikari.getDataSourceProperties().getProperty(HibernateConfig.REWRITE_BATCHED_STATEMENTS));
+    }
+
+    @Test
+    @DisplayName("알림 대량 insert")
+    void insertNotifications() {
+        List<User> users = userRepository.findAll(PageRequest.of(0, 1)).getContent();
+        Assumptions.assumeFalse(users.isEmpty(), "유저 데이터 필요");
+        User receiver = users.get(0);
+
+        List<Notification> notifications = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            notifications.add(Notification.builder()
+                    .receiver(receiver)
+                    .type(Notification.NotificationType.COMMENT)
+                    .content("벤치마크 알림 " + i)
+                    .build());
+        }
+
+        measure("notification", () -> notificationRepository.saveAll(notifications));
+    }
+
+    @Test
+    @DisplayName("태그 매핑 대량 insert")
+    void insertTagMaps() {
+        List<Review> reviews = reviewRepository.findAll(PageRequest.of(0, 1)).getContent();
+        List<Tag> tags = tagRepository.findAll();
+        Assumptions.assumeFalse(reviews.isEmpty() || tags.isEmpty(), "리뷰/태그 데이터 필요");
+
+        List<ReviewTagMap> tagMaps = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            tagMaps.add(ReviewTagMap.builder()
+                    .review(reviews.get(0))
+                    .tag(tags.get(i % tags.size()))
+                    .build());
+        }
+
+        measure("tag_map", () -> reviewTagMapRepository.saveAll(tagMaps));
+    }
+
+    private void measure(String label, Runnable insert) {
+        entityManager.flush();
+        statistics.clear();
+
+        long start = System.nanoTime();
+        insert.run();
+        entityManager.flush();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long statements = statistics.getPrepareStatementCount();
+        System.out.printf("🚀 %s: %,d rows in %.3fs (%,.0f rows/s), JDBC statements=%d%n",
+                label, ROWS, seconds, ROWS / seconds, statements);
+        assertTrue(statements <= MAX_STATEMENTS,
+                () -> label + " insert 가 배치로 묶이지 않음: statements=" + statements + " (최대 " + MAX_STATEMENTS + ")");
+    }
+}
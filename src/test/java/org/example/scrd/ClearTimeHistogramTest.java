@@ -0,0 +1,68 @@
+package org.example.scrd;
+
+import org.example.scrd.domain.ClearTimeHistogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 클리어 시간 분포 분위수 / 증감 / 저장 형식.
+ */
+class ClearTimeHistogramTest {
+
+    @Test
+    @DisplayName("비어 있으면 분위수는 null")
+    void emptyHasNoQuantile() {
+        assertNull(ClearTimeHistogram.empty().quantile(0.5));
+    }
+
+    @Test
+    @DisplayName("분위수 오차는 버킷 폭(1분) 이내")
+    void quantileWithinOneBucket() {
+        ClearTimeHistogram histogram = ClearTimeHistogram.empty();
+        for (int minute = 1; minute <= 100; minute++) {
+            histogram = histogram.add(minute * 60 - 30); // 0:30, 1:30, ... 99:30
+        }
+
+        assertWithinBucket(25 * 60, histogram.quantile(0.25));
+        assertWithinBucket(50 * 60, histogram.quantile(0.5));
+        assertWithinBucket(90 * 60, histogram.quantile(0.9));
+    }
+
+    @Test
+    @DisplayName("180분 이상은 overflow 버킷에 모이고 분위수는 180분으로 자른다")
+    void overflowIsCapped() {
+        ClearTimeHistogram histogram = ClearTimeHistogram.empty().add(200 * 60).add(300 * 60);
+
+        assertEquals(ClearTimeHistogram.BUCKETS * ClearTimeHistogram.BUCKET_SECONDS, histogram.quantile(0.5));
+    }
+
+    @Test
+    @DisplayName("삭제분 분포(subtract)는 add 를 되돌리고 0 밑으로 내려가지 않는다")
+    void subtractUndoesAdd() {
+        ClearTimeHistogram histogram = ClearTimeHistogram.empty().add(3000).add(3600);
+        ClearTimeHistogram removed = ClearTimeHistogram.empty().add(3000);
+
+        assertEquals(ClearTimeHistogram.empty().add(3600), histogram.subtract(removed));
+        assertEquals(0, ClearTimeHistogram.empty().subtract(removed).total());
+    }
+
+    @Test
+    @DisplayName("encode/decode 왕복, 원본 인스턴스는 바뀌지 않는다")
+    void encodeRoundTrip() {
+        ClearTimeHistogram original = ClearTimeHistogram.empty().add(90).add(90).add(4000);
+        ClearTimeHistogram copy = ClearTimeHistogram.decode(original.encode());
+
+        assertEquals(original, copy);
+        assertEquals(6, original.merge(copy).total());
+        assertEquals(3, original.total());
+    }
+
+    private static void assertWithinBucket(int expectedSeconds, Integer actualSeconds) {
+        assertTrue(Math.abs(expectedSeconds - actualSeconds) <= ClearTimeHistogram.BUCKET_SECONDS,
+                () -> "expected ~" + expectedSeconds + " but was " + actualSeconds);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.scrd;
+
+import org.example.scrd.util.ClearTimeParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 리뷰 클리어 시간 문자열 → 초 변환.
+ */
+class ClearTimeParserTest {
+
+    @Test
+    @DisplayName("앱에서 들어오는 형태를 초로 바꾼다")
+    void parsesSupportedFormats() {
+        assertEquals(45 * 60 + 30, ClearTimeParser.toSeconds("45:30"));
+        assertEquals(3600 + 5 * 60, ClearTimeParser.toSeconds("1:05:00"));
+        assertEquals(45 * 60 + 30, ClearTimeParser.toSeconds("45분 30초"));
+        assertEquals(3600 + 5 * 60, ClearTimeParser.toSeconds("1시간 5분"));
+        assertEquals(45 * 60, ClearTimeParser.toSeconds(" 45 "));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없거나 범위를 벗어나면 null")
+    void rejectsUnparseableOrOutOfRange() {
+        assertNull(ClearTimeParser.toSeconds(null));
+        assertNull(ClearTimeParser.toSeconds(""));
+        assertNull(ClearTimeParser.toSeconds("빨리 깼어요"));
+        assertNull(ClearTimeParser.toSeconds("0"));
+        assertNull(ClearTimeParser.toSeconds("25시간"));
+    }
+
+    @Test
+    @DisplayName("자릿수가 아주 긴 입력도 예외 없이 null")
+    void rejectsOverlongNumbers() {
+        assertNull(ClearTimeParser.toSeconds("99999999999분"));
+        assertNull(ClearTimeParser.toSeconds("99999999999시간"));
+        assertNull(ClearTimeParser.toSeconds("1시간 99999999999초"));
+    }
+}
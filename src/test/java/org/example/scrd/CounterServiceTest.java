@@ -0,0 +1,186 @@
+package org.example.scrd;
+
+import org.example.scrd.service.Counter;
+import org.example.scrd.service.CounterFlushedEvent;
+import org.example.scrd.service.CounterService;
+import org.example.scrd.service.CounterStore;
+import org.example.scrd.service.CounterWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CounterService write-behind 동작 (Redis/MySQL 없이 인메모리 저장소로).
+ */
+class CounterServiceTest {
+    private static final long THEME_ID = 1L;
+    private static final long USER_ID = 7L;
+
+    InMemoryCounterStore store;
+    FakeCounterWriter writer;
+    List<CounterFlushedEvent> events;
+    CounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryCounterStore();
+        writer = new FakeCounterWriter();
+        events = new ArrayList<>();
+        counterService = new CounterService(store, writer, event -> events.add((CounterFlushedEvent) event));
+    }
+
+    @Test
+    @DisplayName("증감분은 flush 전까지 DB 에 쓰지 않고, 읽을 때는 더해서 보인다")
+    void incrementIsDeferredButVisible() {
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 1);
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 1);
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, -1);
+
+        assertEquals(0, writer.value(Counter.THEME_REVIEW_COUNT, THEME_ID));
+        assertEquals(11, counterService.current(Counter.THEME_REVIEW_COUNT, THEME_ID, 10));
+        assertTrue(counterService.hasPending(Counter.THEME_REVIEW_COUNT, THEME_ID));
+    }
+
+    @Test
+    @DisplayName("flush 는 카운터별 배치 하나로 반영하고 Redis 를 비운다")
+    void flushAppliesOneBatchPerCounter() {
+        for (int i = 0; i < 100; i++) {
+            counterService.increment(Counter.USER_POINT, USER_ID, 500);
+            counterService.increment(Counter.USER_REVIEW_COUNT, USER_ID, 1);
+        }
+
+        counterService.flush();
+
+        assertEquals(50_000, writer.value(Counter.USER_POINT, USER_ID));
+        assertEquals(100, writer.value(Counter.USER_REVIEW_COUNT, USER_ID));
+        assertEquals(2, writer.appliedBatches.size());
+        assertFalse(counterService.hasPending(Counter.USER_POINT, USER_ID));
+        assertEquals(2, events.size());
+
+        counterService.flush(); // 쌓인 게 없으면 아무것도 안 함
+        assertEquals(2, writer.appliedBatches.size());
+    }
+
+    @Test
+    @DisplayName("DB 반영 후 Redis 정리 전에 죽었던 배치는 다시 반영하지 않는다")
+    void resumedBatchIsNotAppliedTwice() {
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 3);
+        CounterStore.Batch batch = store.beginFlush(Counter.THEME_REVIEW_COUNT, "batch-1");
+        writer.applyBatch(Counter.THEME_REVIEW_COUNT, batch.id(), batch.deltas());
+        // 여기서 completeFlush 전에 죽었다고 보고, 그 사이 새 리뷰가 들어옴
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 1);
+
+        counterService.flush();
+
+        assertEquals(4, writer.value(Counter.THEME_REVIEW_COUNT, THEME_ID));
+        assertFalse(counterService.hasPending(Counter.THEME_REVIEW_COUNT, THEME_ID));
+    }
+
+    @Test
+    @DisplayName("DB 에 반영된 배치는 Redis 정리 전이라도 pending 에서 빠진다")
+    void appliedBatchIsNotCountedTwice() {
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 3);
+        store.setFailComplete(true);
+
+        counterService.flush(); // DB 반영 후 정리 단계에서 실패
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 1);
+
+        long persisted = writer.value(Counter.THEME_REVIEW_COUNT, THEME_ID);
+        assertEquals(3, persisted);
+        assertEquals(4, counterService.current(Counter.THEME_REVIEW_COUNT, THEME_ID, persisted));
+
+        store.setFailComplete(false);
+        counterService.flush(); // 남은 배치는 건너뛰고 정리, 새 증감분 반영
+        assertEquals(4, writer.value(Counter.THEME_REVIEW_COUNT, THEME_ID));
+        assertFalse(counterService.hasPending(Counter.THEME_REVIEW_COUNT, THEME_ID));
+    }
+
+    @Test
+    @DisplayName("DB 반영 전에 죽었던 배치는 다음 flush 에서 한 번 반영한다")
+    void abandonedBatchIsAppliedOnce() {
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 2);
+        store.beginFlush(Counter.THEME_REVIEW_COUNT, "batch-1"); // 반영 중 칸으로 옮긴 뒤 죽음
+
+        assertEquals(2, counterService.current(Counter.THEME_REVIEW_COUNT, THEME_ID, 0));
+        counterService.flush();
+        counterService.flush();
+
+        assertEquals(2, writer.value(Counter.THEME_REVIEW_COUNT, THEME_ID));
+        assertEquals(List.of("batch-1"), writer.appliedBatches);
+    }
+
+    @Test
+    @DisplayName("Redis 를 못 쓰면 DB 에 바로 반영하고, 조회는 DB 값을 그대로 쓴다")
+    void fallsBackToDirectWriteWhenStoreIsDown() {
+        store.setAvailable(false);
+
+        counterService.increment(Counter.USER_POINT, USER_ID, 500);
+
+        assertEquals(500, writer.value(Counter.USER_POINT, USER_ID));
+        assertEquals(500, counterService.current(Counter.USER_POINT, USER_ID, 500));
+        assertEquals(1, events.size());
+    }
+
+    @Test
+    @DisplayName("보정은 아직 반영 안 된 증감분이 있는 테마를 건너뛴다")
+    void reconcileSkipsThemesWithPendingDeltas() {
+        store.setAvailable(false);
+        counterService.increment(Counter.THEME_REVIEW_COUNT, THEME_ID, 1); // 장애 중엔 DB 직접
+        store.setAvailable(true);
+        counterService.increment(Counter.THEME_REVIEW_COUNT, 2L, 1);
+        store.beginFlush(Counter.THEME_REVIEW_COUNT, "stuck"); // 2번 테마는 반영 중
+
+        writer.failApply = true;
+        counterService.reconcile();
+
+        assertTrue(writer.reconcileExcluded.contains(2L));
+    }
+
+    static class FakeCounterWriter implements CounterWriter {
+        final Map<Counter, Map<Long, Long>> values = new EnumMap<>(Counter.class);
+        final List<String> appliedBatches = new ArrayList<>();
+        final Set<Long> reconcileExcluded = new HashSet<>();
+        boolean failApply;
+
+        long value(Counter counter, Long id) {
+            return values.getOrDefault(counter, Map.of()).getOrDefault(id, 0L);
+        }
+
+        @Override
+        public boolean applyBatch(Counter counter, String batchId, Map<Long, Long> deltas) {
+            if (failApply) {
+                throw new IllegalStateException("db down");
+            }
+            if (appliedBatches.contains(batchId)) {
+                return false;
+            }
+            appliedBatches.add(batchId);
+            applyDirect(counter, deltas);
+            return true;
+        }
+
+        @Override
+        public void applyDirect(Counter counter, Map<Long, Long> deltas) {
+            Map<Long, Long> current = values.computeIfAbsent(counter, c -> new HashMap<>());
+            deltas.forEach((id, delta) -> current.merge(id, delta, Long::sum));
+        }
+
+        @Override
+        public List<Long> reconcileThemeReviewCounts(Set<Long> excludedThemeIds) {
+            reconcileExcluded.addAll(excludedThemeIds);
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.scrd;
+
+import org.example.scrd.service.Counter;
+import org.example.scrd.service.CounterStore;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RedisCounterStore 를 흉내 낸 인메모리 구현 (테스트용).
+ * delta / flushing / batch / applied 칸을 Lua 스크립트와 같은 규칙으로 다룬다. available=false 면 Redis 장애처럼 예외를 던진다.
+ */
+class InMemoryCounterStore implements CounterStore {
+    private final Map<Counter, Map<Long, Long>> deltas = new EnumMap<>(Counter.class);
+    private final Map<Counter, Map<Long, Long>> flushing = new EnumMap<>(Counter.class);
+    private final Map<Counter, String> batches = new EnumMap<>(Counter.class);
+    private final Map<Counter, String> applied = new EnumMap<>(Counter.class);
+    private boolean available = true;
+    private boolean failComplete;
+
+    void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    // DB 반영 후 Redis 정리(completeFlush) 단계에서만 실패
+    void setFailComplete(boolean failComplete) {
+        this.failComplete = failComplete;
+    }
+
+    @Override
+    public synchronized void increment(Counter counter, Long id, long delta) {
+        check();
+        deltas.computeIfAbsent(counter, c -> new HashMap<>()).merge(id, delta, Long::sum);
+    }
+
+    @Override
+    public synchronized long pending(Counter counter, Long id) {
+        check();
+        long pending = deltas.getOrDefault(counter, Map.of()).getOrDefault(id, 0L);
+        String batch = batches.get(counter);
+        if (batch == null || !batch.equals(applied.get(counter))) {
+            pending += flushing.getOrDefault(counter, Map.of()).getOrDefault(id, 0L);
+        }
+        return pending;
+    }
+
+    @Override
+    public synchronized Set<Long> pendingIds(Counter counter) {
+        check();
+        Set<Long> ids = new HashSet<>(deltas.getOrDefault(counter, Map.of()).keySet());
+        ids.addAll(flushing.getOrDefault(counter, Map.of()).keySet());
+        return ids;
+    }
+
+    @Override
+    public synchronized Batch beginFlush(Counter counter, String newBatchId) {
+        check();
+        if (flushing.containsKey(counter)) {
+            String batchId = batches.computeIfAbsent(counter, c -> newBatchId);
+            return new Batch(batchId, Map.copyOf(flushing.get(counter)), true);
+        }
+        Map<Long, Long> current = deltas.remove(counter);
+        if (current == null) {
+            return null;
+        }
+        flushing.put(counter, current);
+        batches.put(counter, newBatchId);
+        return new Batch(newBatchId, Map.copyOf(current), false);
+    }
+
+    @Override
+    public synchronized void markApplied(Counter counter, String batchId) {
+        check();
+        if (batchId.equals(batches.get(counter))) {
+            applied.put(counter, batchId);
+        }
+    }
+
+    @Override
+    public synchronized void completeFlush(Counter counter, String batchId) {
+        check();
+        if (failComplete) {
+            throw new IllegalStateException("redis unavailable");
+        }
+        if (batchId.equals(batches.get(counter))) {
+            flushing.remove(counter);
+            batches.remove(counter);
+            applied.remove(counter);
+        }
+    }
+
+    private void check() {
+        if (!available) {
+            throw new IllegalStateException("redis unavailable");
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.scrd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.scrd.config.JacksonConfig;
+import org.example.scrd.dto.MobileThemeDto;
+import org.example.scrd.dto.ThemeCard;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /theme/filter 한 페이지(20개) 기준 JSON vs CBOR 크기/처리량 비교.
+ */
+class MobileThemePayloadBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    @DisplayName("테마 필터 한 페이지 JSON vs CBOR 크기/처리량")
+    void compareJsonAndCbor() throws Exception {
+        ObjectMapper json = mapper(null);
+        ObjectMapper cbor = mapper(new CBORFactory());
+        List<MobileThemeDto> page = samplePage();
+
+        int jsonBytes = json.writeValueAsBytes(page).length;
+        int cborBytes = cbor.writeValueAsBytes(page).length;
+        double jsonOps = throughput(json, page);
+        double cborOps = throughput(cbor, page);
+
+        System.out.printf("📦 JSON: %,d bytes, %,.0f pages/s%n", jsonBytes, jsonOps);
+        System.out.printf("📦 CBOR: %,d bytes, %,.0f pages/s (%.1f%% of JSON)%n",
+                cborBytes, cborOps, 100.0 * cborBytes / jsonBytes);
+
+        assertThat(cborBytes).isLessThan(jsonBytes);
+    }
+
+    private static ObjectMapper mapper(CBORFactory factory) {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().sparseFieldsetCustomizer().customize(builder);
+        if (factory != null) {
+            builder.factory(factory);
+        }
+        return builder.build();
+    }
+
+    private static double throughput(ObjectMapper mapper, List<MobileThemeDto> page) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        return ITERATIONS / ((System.nanoTime() - start) / 1_000_000_000.0);
+    }
+
+    // 실제 목록과 비슷하게: 10:00 ~ 22:30 사이 30분 간격 예약 가능 시간 중 일부
+    private static List<MobileThemeDto> samplePage() {
+        List<MobileThemeDto> page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            List<String> times = new ArrayList<>();
+            for (int slot = i % 3; slot < 26; slot += 2) {
+                times.add(String.format("%02d:%02d", 10 + slot / 2, (slot % 2) * 30));
+            }
+            ThemeCard card = new ThemeCard(
+                    (long) (300 + i),
+                    "비밀의 화원 " + i,
+                    "https://cdn.example.com/themes/" + (300 + i) + "/poster.jpg",
+                    "강남",
+                    "키이스케이프",
+                    "강남점",
+                    27000,
+                    70,
+                    4.3f,
+                    i % 2,
+                    1,
+                    3.4f,
+                    120 + i
+            );
+            page.add(MobileThemeDto.from(card, times));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.scrd;
+
+import org.example.scrd.repo.PartyPostRepository;
+import org.example.scrd.service.CatalogVersionService;
+import org.example.scrd.service.PartyDeadlineScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PartyDeadlineScheduler 힙/잠금 동작 (DB/Redis 는 목으로).
+ * 실제 워커 스레드를 띄우니까 마감 시각은 수백 ms 뒤로 잡고 timeout 으로 기다린다.
+ */
+@SuppressWarnings("unchecked")
+class PartyDeadlineSchedulerTest {
+    private static final String LOCK_KEY = "party:deadline-close:lock";
+
+    PartyPostRepository partyPostRepository;
+    CatalogVersionService catalogVersionService;
+    StringRedisTemplate redisTemplate;
+    ValueOperations<String, String> valueOperations;
+    PartyDeadlineScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        partyPostRepository = mock(PartyPostRepository.class);
+        catalogVersionService = mock(CatalogVersionService.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+
+        scheduler = new PartyDeadlineScheduler(partyPostRepository, catalogVersionService, redisTemplate,
+                mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(scheduler, "horizonMinutes", 60L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("시드된 마감 시각이 되면 그 글을 닫고 잠금을 푼다")
+    void closesSeededPostAtDeadline() {
+        seed(deadline(1L, 300));
+        when(partyPostRepository.closeExpired(eq(List.of(1L)), any())).thenReturn(1);
+
+        scheduler.start();
+
+        verify(partyPostRepository, timeout(3000)).closeExpired(eq(List.of(1L)), any());
+        verify(catalogVersionService, timeout(1000)).bump(CatalogVersionService.PARTY);
+        verify(redisTemplate, timeout(1000).atLeast(2)).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any());
+    }
+
+    @Test
+    @DisplayName("마감이 가까운 글부터 닫고, 아직 안 된 글은 건드리지 않는다")
+    void closesInDeadlineOrder() {
+        seed(deadline(2L, 60_000), deadline(1L, 300));
+
+        scheduler.start();
+
+        verify(partyPostRepository, timeout(3000)).closeExpired(eq(List.of(1L)), any());
+        verify(partyPostRepository, never()).closeExpired(eq(List.of(2L)), any());
+    }
+
+    @Test
+    @DisplayName("작성 후 track 으로 들어온 글도 마감 시각에 닫는다")
+    void closesTrackedPost() {
+        seed();
+        scheduler.start();
+
+        scheduler.track(5L, LocalDateTime.now().plusNanos(Duration.ofMillis(300).toNanos()));
+
+        verify(partyPostRepository, timeout(3000)).closeExpired(eq(List.of(5L)), any());
+    }
+
+    @Test
+    @DisplayName("다른 서버가 잠금을 잡고 있으면 버리지 않고 잠깐 뒤에 다시 시도한다")
+    void retriesWhenLockIsHeldElsewhere() {
+        seed(deadline(1L, 200));
+        // 시작 시 지난 마감 정리 → 잡음, 첫 마감 → 못 잡음, 재시도 → 잡음
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+                .thenReturn(true, false, true);
+
+        scheduler.start();
+
+        verify(partyPostRepository, timeout(5000)).closeExpired(eq(List.of(1L)), any());
+        verify(valueOperations, atLeast(3)).setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("닫는 UPDATE 가 실패하면 힙에 다시 넣어 재시도한다")
+    void requeuesWhenCloseFails() {
+        seed(deadline(1L, 200));
+        when(partyPostRepository.closeExpired(eq(List.of(1L)), any()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(1);
+
+        scheduler.start();
+
+        verify(partyPostRepository, timeout(10_000).times(2)).closeExpired(eq(List.of(1L)), any());
+        verify(catalogVersionService, timeout(1000)).bump(CatalogVersionService.PARTY);
+        verify(redisTemplate, atLeastOnce()).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), any());
+    }
+
+    private void seed(PartyPostRepository.PartyDeadline... deadlines) {
+        when(partyPostRepository.findOpenDeadlinesUntil(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(deadlines));
+    }
+
+    private static PartyPostRepository.PartyDeadline deadline(Long id, long millisFromNow) {
+        LocalDateTime at = LocalDateTime.now().plusNanos(Duration.ofMillis(millisFromNow).toNanos());
+        return new PartyPostRepository.PartyDeadline() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public LocalDateTime getDeadline() {
+                return at;
+            }
+        };
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.scrd;
+
+import org.example.scrd.domain.Review;
+import org.example.scrd.domain.Theme;
+import org.example.scrd.domain.User;
+import org.example.scrd.dto.ReviewCreateRequestDto;
+import org.example.scrd.repo.ReviewRepository;
+import org.example.scrd.repo.ThemeRepository;
+import org.example.scrd.repo.UserRepository;
+import org.example.scrd.service.CounterService;
+import org.example.scrd.service.ReviewService;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 같은 테마/같은 유저로 리뷰 100개를 동시에 써도 리뷰 수/포인트/리뷰 횟수가 정확히 100번 반영되는지.
+ * 카운터는 Redis 에 쌓였다가 flush 때 DB 에 들어가니까 확인 전에 직접 flush 한다.
+ * 실제 DB 에 유저/테마가 하나 이상 있어야 하고, 끝나면 만든 리뷰를 지우고 유저 값을 되돌린다.
+ */
+@SpringBootTest
+class ReviewConcurrencyTest {
+    private static final int THREADS = 100;
+
+    @Autowired
+    ReviewService reviewService;
+    @Autowired
+    CounterService counterService;
+    @Autowired
+    ReviewRepository reviewRepository;
+    @Autowired
+    ThemeRepository themeRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("리뷰 100개 동시 작성 시 카운터 유실 없음")
+    void concurrentReviewsKeepExactCounts() throws InterruptedException {
+        counterService.flush(); // 이전에 쌓인 증감분 먼저 반영
+        List<User> users = userRepository.findAll(PageRequest.of(0, 1)).getContent();
+        List<Theme> themes = themeRepository.findAll(PageRequest.of(0, 1)).getContent();
+        Assumptions.assumeFalse(users.isEmpty() || themes.isEmpty(), "유저/테마 데이터 필요");
+
+        User user = users.get(0);
+        Theme theme = themes.get(0);
+        int themeReviewCountBefore = reviewCount(theme.getId());
+        int pointBefore = user.getPoint();
+        int countBefore = user.getCount();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            int n = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    reviewService.addReview(request(n), user.getId(), theme, null);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertTrue(done.await(60, TimeUnit.SECONDS), "시간 초과");
+        executor.shutdown();
+
+        counterService.flush();
+
+        try {
+            assertTrue(failures.isEmpty(), () -> "실패한 작성: " + failures.peek());
+            assertEquals(themeReviewCountBefore + THREADS, reviewCount(theme.getId()));
+
+            User after = userRepository.findById(user.getId()).orElseThrow();
+            assertEquals(countBefore + THREADS, after.getCount());
+            assertEquals(pointBefore + THREADS * 500, after.getPoint());
+        } finally {
+            cleanUp(user, theme, pointBefore, countBefore);
+        }
+    }
+
+    private int reviewCount(Long themeId) {
+        Integer count = themeRepository.findById(themeId).orElseThrow().getReviewCount();
+        return count != null ? count : 0;
+    }
+
+    private static ReviewCreateRequestDto request(int n) {
+        return ReviewCreateRequestDto.builder()
+                .text("동시성 테스트 리뷰 " + n)
+                .level(3)
+                .stars(4)
+                .horror(0)
+                .activity(1)
+                .isSuccessful(true)
+                .hintUsageCount(1)
+                .clearTime("55:00")
+                .build();
+    }
+
+    private void cleanUp(User user, Theme theme, int pointBefore, int countBefore) {
+        for (Review review : reviewRepository.findByUserId(user.getId())) {
+            if (review.getTheme().getId().equals(theme.getId())
+                    && review.getText() != null && review.getText().startsWith("동시성 테스트 리뷰 ")) {
+                reviewService.deleteReview(review.getId(), user);
+            }
+        }
+        counterService.flush();
+        User restored = userRepository.findById(user.getId()).orElseThrow();
+        restored.setPoint(pointBefore);
+        restored.setCount(countBefore);
+        userRepository.save(restored);
+    }
+}
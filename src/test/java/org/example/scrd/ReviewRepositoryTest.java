@@ -1,7 +1,8 @@
 package org.example.scrd;
 
-import org.example.scrd.domain.Review;
+import org.example.scrd.dto.ThemeReviewResponseDto;
 import org.example.scrd.repo.ReviewRepository;
+import org.example.scrd.service.ReviewService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -14,6 +15,8 @@ class ReviewRepositoryTest {
     @Autowired
     ReviewRepository reviewRepository;
 
+    @Autowired
+    ReviewService reviewService;
 
     @Test
     void searchReview_withTextKeyword() {
@@ -21,10 +24,10 @@ class ReviewRepositoryTest {
         Long userId = null;
         Long themeId = null;
 
-        List<Review> reviews = reviewRepository.searchReviews(keyword, userId, themeId);
+        List<ThemeReviewResponseDto> reviews = reviewService.searchReviews(keyword, userId, themeId, 20);
 
         System.out.println("🔍 검색 결과:");
-        for (Review review : reviews) {
+        for (ThemeReviewResponseDto review : reviews) {
             System.out.println("📝 " + review.getText());
         }
     }
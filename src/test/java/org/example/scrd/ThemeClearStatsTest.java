@@ -0,0 +1,75 @@
+package org.example.scrd;
+
+import org.example.scrd.domain.ClearTimeHistogram;
+import org.example.scrd.domain.ThemeClearStats;
+import org.example.scrd.domain.ThemeClearStatsDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 클리어 통계 증감분 누적 / 통계 행 반영.
+ */
+class ThemeClearStatsTest {
+
+    @Test
+    @DisplayName("작성분을 더하고, 실패한 리뷰의 클리어 시간은 분포에서 뺀다")
+    void appliesAddedReviews() {
+        ThemeClearStats stats = new ThemeClearStats(1L);
+
+        stats.apply(new ThemeClearStatsDelta()
+                .add(true, 2, "45:00")
+                .add(false, 4, "60:00")
+                .add(null, null, "50분"));
+
+        assertEquals(2, stats.getResultCount());
+        assertEquals(0.5f, stats.getSuccessRate());
+        assertEquals(3.0f, stats.getAverageHintCount());
+        assertEquals(ClearTimeHistogram.empty().add(45 * 60).add(50 * 60), stats.getClearTimes());
+    }
+
+    @Test
+    @DisplayName("저장된 행에 삭제분을 반영하면 그 리뷰가 없던 것과 같다")
+    void appliesRemovedReviews() {
+        ThemeClearStats stats = new ThemeClearStats(1L);
+        stats.apply(new ThemeClearStatsDelta().add(true, 1, "40:00").add(true, 3, "70:00"));
+
+        stats.apply(new ThemeClearStatsDelta().remove(true, 3, "70:00"));
+
+        ThemeClearStats expected = new ThemeClearStats(1L);
+        expected.apply(new ThemeClearStatsDelta().add(true, 1, "40:00"));
+        assertEquals(expected.getResultCount(), stats.getResultCount());
+        assertEquals(expected.getHintTotal(), stats.getHintTotal());
+        assertEquals(expected.getClearTimes(), stats.getClearTimes());
+    }
+
+    @Test
+    @DisplayName("한 주기 안에 작성 후 삭제되면 증감분은 0, 실패 후 되돌린 증감분도 합쳐진다")
+    void mergesDeltas() {
+        ThemeClearStatsDelta delta = new ThemeClearStatsDelta()
+                .add(true, 1, "40:00")
+                .merge(new ThemeClearStatsDelta().remove(true, 1, "40:00"));
+        ThemeClearStats stats = new ThemeClearStats(1L);
+
+        stats.apply(delta);
+
+        assertNull(stats.getSuccessRate());
+        assertNull(stats.getAverageHintCount());
+        assertEquals(0, stats.getClearTimes().total());
+    }
+
+    @Test
+    @DisplayName("통계 행보다 먼저 쓰인 리뷰가 지워져도 0 밑으로 내려가지 않는다")
+    void neverGoesNegative() {
+        ThemeClearStats stats = new ThemeClearStats(1L);
+
+        stats.apply(new ThemeClearStatsDelta().remove(true, 2, "40:00"));
+
+        assertEquals(0, stats.getResultCount());
+        assertEquals(0, stats.getSuccessCount());
+        assertEquals(0, stats.getHintTotal());
+        assertEquals(0, stats.getClearTimes().total());
+    }
+}